@@ -112,6 +112,18 @@ private static int similarEntriesOfList(ImmutableList<String> list1, ImmutableLi
         return removed.size();
     }
 
+    /**
+     * Cheaply checks whether words with terms of the given lengths can be similar, see {@link WordSimUtils#canBeSimilar(int, int)}. Terms whose lower case
+     * form has a different length are not covered by this check.
+     *
+     * @param firstLength  the length of the first term
+     * @param secondLength the length of the second term
+     * @return false if words of these lengths are certainly not similar, true if they might be similar
+     */
+    public boolean canWordsBeSimilar(int firstLength, int secondLength) {
+        return this.wordSimUtils.canBeSimilar(firstLength, secondLength);
+    }
+
     /**
      * Checks the similarity of two {@link NounMapping}s.
      *
@@ -120,25 +132,52 @@ private static int similarEntriesOfList(ImmutableList<String> list1, ImmutableLi
      * @return true if the NounMappings are similar
      */
     public boolean areNounMappingsSimilar(NounMapping nm1, NounMapping nm2) {
-        var nm1Words = nm1.getReferenceWords();
-        var nm2Words = nm2.getReferenceWords();
-        var nm1Reference = nm1.getReference();
-        var nm2Reference = nm2.getReference();
-        var nm1SplitAtSeparators = CommonUtilities.splitAtSeparators(nm1Reference);
-        var nm2SplitAtSeparators = CommonUtilities.splitAtSeparators(nm2Reference);
-
-        if (nm1SplitAtSeparators.isEmpty() || nm2SplitAtSeparators.isEmpty()) {
+        return this.areNounMappingsSimilar(NounMappingComparisonKey.of(nm1), NounMappingComparisonKey.of(nm2));
+    }
+
+    /**
+     * Checks the similarity of two {@link NounMapping}s by their comparison keys. The result is the same as comparing the noun mappings themselves, but the
+     * keys can be computed once per noun mapping and reused for many comparisons.
+     *
+     * @param first  the comparison key of the first NounMapping
+     * @param second the comparison key of the second NounMapping
+     * @return true if the NounMappings are similar
+     */
+    public boolean areNounMappingsSimilar(NounMappingComparisonKey first, NounMappingComparisonKey second) {
+        if (first.firstReferencePart() == null || second.firstReferencePart() == null) {
             return false;
         }
-        var nm1FirstPart = nm1SplitAtSeparators.get(0);
-        var nm2FirstPart = nm2SplitAtSeparators.get(0);
 
-        if (nm1Words.size() == 1 && nm2Words.size() == 1) {
-            var nm1Word = nm1Words.get(0);
-            var nm2Word = nm2Words.get(0);
-            return this.areWordsSimilar(nm1FirstPart, nm2FirstPart) || this.areWordsSimilar(nm1Word, nm2Word);
+        if (first.singleReferenceWord() != null && second.singleReferenceWord() != null) {
+            return this.areWordsSimilar(first.firstReferencePart(), second.firstReferencePart()) || this.areWordsSimilar(first.singleReferenceWord(), second
+                    .singleReferenceWord());
+        }
+        return this.areWordsSimilar(first.reference(), second.reference());
+    }
+
+    /**
+     * The parts of a {@link NounMapping} that are compared to decide whether two noun mappings are similar.
+     *
+     * @param reference           the reference of the noun mapping
+     * @param firstReferencePart  the first part of the reference split at separators, null if the split is empty
+     * @param singleReferenceWord the reference word if the noun mapping has exactly one, null otherwise
+     */
+    public record NounMappingComparisonKey(String reference, String firstReferencePart, Word singleReferenceWord) {
+
+        /**
+         * Computes the comparison key of the specified noun mapping.
+         *
+         * @param nounMapping the noun mapping
+         * @return the comparison key of the noun mapping
+         */
+        public static NounMappingComparisonKey of(NounMapping nounMapping) {
+            var referenceWords = nounMapping.getReferenceWords();
+            var reference = nounMapping.getReference();
+            var referenceSplitAtSeparators = CommonUtilities.splitAtSeparators(reference);
+            String firstReferencePart = referenceSplitAtSeparators.isEmpty() ? null : referenceSplitAtSeparators.get(0);
+            Word singleReferenceWord = referenceWords.size() == 1 ? referenceWords.get(0) : null;
+            return new NounMappingComparisonKey(reference, firstReferencePart, singleReferenceWord);
         }
-        return this.areWordsSimilar(nm1Reference, nm2Reference);
     }
 
     /**
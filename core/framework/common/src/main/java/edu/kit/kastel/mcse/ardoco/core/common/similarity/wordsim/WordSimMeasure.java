@@ -2,7 +2,8 @@
 package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
 
 /**
- * A measure that determines whether two words from a {@link ComparisonContext} are similar.
+ * A measure that determines whether two words from a {@link ComparisonContext} are similar. {@link WordSimUtils} memoizes the verdicts of its measures per pair
+ * of terms only if all of them declare that their verdicts {@link #dependsOnlyOnTerms() depend only on the terms}.
  */
 public interface WordSimMeasure {
 
@@ -21,4 +22,41 @@ public interface WordSimMeasure {
      * @return similarity in range [0,1]
      */
     double getSimilarity(ComparisonContext comparisonContext);
+
+    /**
+     * Cheaply checks whether the words from the given {@link ComparisonContext} can be similar according to this measure, e.g., based on their lengths. This
+     * check is used to skip comparisons before running {@link #areWordsSimilar(ComparisonContext)}. It must never return false for words that this measure
+     * considers similar. By default, all words can be similar.
+     *
+     * @param comparisonContext the context containing the words
+     * @return false if the words are certainly not similar, true if they might be similar
+     */
+    default boolean canBeSimilar(ComparisonContext comparisonContext) {
+        return true;
+    }
+
+    /**
+     * Cheaply checks whether terms of the given lengths can be similar according to this measure. This allows to find candidates for a comparison without
+     * looking at the terms. The check only applies to terms whose lower case form has the same length as the term itself. It must never return false for
+     * lengths of words that this measure considers similar. By default, words of all lengths can be similar.
+     *
+     * @param firstLength  the length of the first term
+     * @param secondLength the length of the second term
+     * @return false if terms of these lengths are certainly not similar, true if they might be similar
+     */
+    default boolean canBeSimilar(int firstLength, int secondLength) {
+        return true;
+    }
+
+    /**
+     * Returns whether the verdicts of {@link #areWordsSimilar(ComparisonContext)} only depend on the {@link ComparisonContext#firstTerm() first} and the
+     * {@link ComparisonContext#secondTerm() second term} of the context, and not on other parts of the context such as its words. The verdicts must also not
+     * change over time, e.g., because the measure is reconfigured. Only verdicts of such measures may be memoized. By default, measures are not assumed to
+     * depend only on the terms.
+     *
+     * @return true if equal terms always lead to equal verdicts
+     */
+    default boolean dependsOnlyOnTerms() {
+        return false;
+    }
 }
@@ -3,26 +3,58 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.list.MutableList;
-
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.AverageStrategy;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.SimilarityStrategy;
 
 /**
- * Provides utility methods for calculating similarity between objects, with configurable strategies and measures. Not thread-safe.
+ * Provides utility methods for calculating similarity between objects, with configurable strategies and measures. Thread-safe.
+ * <p>
+ * The verdicts of {@link #areWordsSimilar(ComparisonContext, ComparisonStrategy)} are memoized per pair of compared terms and comparison strategy if all
+ * measures {@link WordSimMeasure#dependsOnlyOnTerms() depend only on the terms}. The memo keeps the most recently used verdicts and belongs to the current
+ * measures, so setting other measures starts with an empty memo.
  */
+@Deterministic
 public class WordSimUtils {
 
-    private MutableList<WordSimMeasure> measures = Lists.mutable.withAll(WordSimLoader.loadUsingProperties());
-    private ComparisonStrategy strategy = ComparisonStrategy.AT_LEAST_ONE;
-    private SimilarityStrategy similarityStrategy = new AverageStrategy();
+    /**
+     * The default maximum number of memoized verdicts.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1 << 16;
+
+    private final int cacheSize;
+    private volatile MeasureSet measureSet;
+    private volatile ComparisonStrategy strategy = ComparisonStrategy.AT_LEAST_ONE;
+    private volatile SimilarityStrategy similarityStrategy = new AverageStrategy();
+
+    /**
+     * Creates a new instance that uses the measures configured in the properties and memoizes at most {@link #DEFAULT_CACHE_SIZE} verdicts.
+     */
+    public WordSimUtils() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new instance that uses the measures configured in the properties and memoizes at most the specified number of verdicts.
+     *
+     * @param cacheSize the maximum number of memoized verdicts, must be positive
+     * @throws IllegalArgumentException if the cache size is not positive
+     */
+    public WordSimUtils(int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive");
+        }
+        this.cacheSize = cacheSize;
+        this.measureSet = MeasureSet.of(WordSimLoader.loadUsingProperties().castToList(), cacheSize);
+    }
 
     /**
      * Sets which measures should be used for similarity comparison.
@@ -30,7 +62,7 @@ public class WordSimUtils {
      * @param measures the measures to use
      */
     public void setMeasures(Collection<WordSimMeasure> measures) {
-        this.measures = Lists.mutable.withAll(measures);
+        this.measureSet = MeasureSet.of(measures, this.cacheSize);
     }
 
     /**
@@ -62,11 +94,34 @@ public boolean areWordsSimilar(ComparisonContext ctx, ComparisonStrategy strateg
         Objects.requireNonNull(ctx);
         Objects.requireNonNull(strategy);
 
-        if (!this.splitLengthTest(ctx)) {
-            return false;
+        // read the measures once, so a concurrent update cannot mix the memo of one measure set with the verdicts of another
+        MeasureSet currentMeasureSet = this.measureSet;
+        List<WordSimMeasure> measureList = currentMeasureSet.measures();
+        VerdictCache verdicts = currentMeasureSet.verdicts();
+        if (verdicts == null) {
+            return strategy.canBeSimilar(ctx, measureList) && this.splitLengthTest(ctx) && strategy.areWordsSimilar(ctx, measureList);
         }
 
-        return strategy.areWordsSimilar(ctx, this.measures.toList());
+        var key = new ComparedTerms(ctx.firstTerm(), ctx.secondTerm(), strategy);
+        Boolean memoizedVerdict = verdicts.get(key);
+        if (memoizedVerdict != null) {
+            return memoizedVerdict;
+        }
+        boolean verdict = strategy.canBeSimilar(ctx, measureList) && this.splitLengthTest(ctx) && strategy.areWordsSimilar(ctx, measureList);
+        verdicts.put(key, verdict);
+        return verdict;
+    }
+
+    /**
+     * Cheaply checks whether terms of the given lengths can be similar according to the default comparison strategy and the current measures. The check only
+     * applies to terms whose lower case form has the same length as the term itself, see {@link WordSimMeasure#canBeSimilar(int, int)}.
+     *
+     * @param firstLength  the length of the first term
+     * @param secondLength the length of the second term
+     * @return false if terms of these lengths are certainly not similar, true if they might be similar
+     */
+    public boolean canBeSimilar(int firstLength, int secondLength) {
+        return this.strategy.canBeSimilar(firstLength, secondLength, this.measureSet.measures());
     }
 
     private boolean splitLengthTest(ComparisonContext ctx) {
@@ -165,7 +220,10 @@ public boolean areWordsSimilar(String firstWord, Word secondWord, ComparisonStra
      * @return similarity in range [0,1]
      */
     public double getSimilarity(String firstWord, String secondWord, SimilarityStrategy strategy, boolean ignoreCase) {
-        var allMeasuresExceptDefault = this.measures.stream().filter(m -> !(m instanceof EqualityMeasure)).collect(Collectors.toCollection(ArrayList::new));
+        var allMeasuresExceptDefault = this.measureSet.measures()
+                .stream()
+                .filter(m -> !(m instanceof EqualityMeasure))
+                .collect(Collectors.toCollection(ArrayList::new));
         if (allMeasuresExceptDefault.isEmpty()) {
             allMeasuresExceptDefault.add(new EqualityMeasure());
         }
@@ -197,4 +255,42 @@ public double getSimilarity(String firstWord, String secondWord) {
     public double getSimilarity(String firstWord, String secondWord, boolean ignoreCase) {
         return this.getSimilarity(firstWord, secondWord, this.similarityStrategy, ignoreCase);
     }
+
+    /**
+     * The measures together with the memo of their verdicts. The memo is null if a measure does not depend only on the compared terms.
+     */
+    private record MeasureSet(List<WordSimMeasure> measures, VerdictCache verdicts) {
+        static MeasureSet of(Collection<WordSimMeasure> measures, int cacheSize) {
+            List<WordSimMeasure> measureList = List.copyOf(measures);
+            boolean memoizable = measureList.stream().allMatch(WordSimMeasure::dependsOnlyOnTerms);
+            return new MeasureSet(measureList, memoizable ? new VerdictCache(cacheSize) : null);
+        }
+    }
+
+    /**
+     * Memoized verdicts in the order of their last use. If the memo is full, the least recently used verdict is discarded.
+     */
+    @Deterministic
+    private static final class VerdictCache {
+        private final int capacity;
+        private final LinkedHashMap<ComparedTerms, Boolean> verdicts = new LinkedHashMap<>(16, 0.75f, true);
+
+        VerdictCache(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized Boolean get(ComparedTerms terms) {
+            return this.verdicts.get(terms);
+        }
+
+        synchronized void put(ComparedTerms terms, boolean verdict) {
+            this.verdicts.put(terms, verdict);
+            if (this.verdicts.size() > this.capacity) {
+                this.verdicts.remove(this.verdicts.keySet().iterator().next());
+            }
+        }
+    }
+
+    private record ComparedTerms(String firstTerm, String secondTerm, ComparisonStrategy strategy) {
+    }
 }
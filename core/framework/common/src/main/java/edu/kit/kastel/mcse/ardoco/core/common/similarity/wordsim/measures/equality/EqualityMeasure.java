@@ -19,6 +19,22 @@ public boolean areWordsSimilar(ComparisonContext comparisonContext) {
         return comparisonContext.firstTerm().equalsIgnoreCase(comparisonContext.secondTerm());
     }
 
+    /**
+     * Checks if the terms in the given context have the same length, which is necessary for them to be equal ignoring case.
+     *
+     * @param comparisonContext the comparison context
+     * @return true if the terms have the same length, false otherwise
+     */
+    @Override
+    public boolean canBeSimilar(ComparisonContext comparisonContext) {
+        return this.canBeSimilar(comparisonContext.firstTerm().length(), comparisonContext.secondTerm().length());
+    }
+
+    @Override
+    public boolean canBeSimilar(int firstLength, int secondLength) {
+        return firstLength == secondLength;
+    }
+
     /**
      * Returns 1.0 if the terms are similar, 0.0 otherwise.
      *
@@ -29,4 +45,9 @@ public boolean areWordsSimilar(ComparisonContext comparisonContext) {
     public double getSimilarity(ComparisonContext comparisonContext) {
         return this.areWordsSimilar(comparisonContext) ? 1 : 0;
     }
+
+    @Override
+    public boolean dependsOnlyOnTerms() {
+        return true;
+    }
 }
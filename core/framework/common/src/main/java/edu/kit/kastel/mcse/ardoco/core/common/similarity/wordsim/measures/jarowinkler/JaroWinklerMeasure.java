@@ -12,6 +12,11 @@
  */
 public class JaroWinklerMeasure implements WordSimMeasure {
 
+    // the scaling factor 0.1 times the maximum considered prefix length 4
+    private static final double MAX_PREFIX_BOOST = 0.4;
+    // guards the bound against rounding differences to the exact computation
+    private static final double BOUND_TOLERANCE = 1e-9;
+
     private final JaroWinklerSimilarity jaroWinklerSimilarity = new JaroWinklerSimilarity();
 
     private final double similarityThreshold;
@@ -43,9 +48,37 @@ public boolean areWordsSimilar(ComparisonContext comparisonContext) {
         return similarity >= this.similarityThreshold;
     }
 
+    /**
+     * Checks whether the upper bound of the jaro winkler similarity that follows from the lengths of the words reaches the threshold. At most as many
+     * characters as the shorter word has can match, so the jaro similarity is at most {@code (2 + shorter / longer) / 3}. The winkler boost for a common
+     * prefix of at most four characters adds at most {@code 0.4 * (1 - jaro)}.
+     *
+     * @param comparisonContext the comparison context
+     * @return false if the words are certainly not similar, true if they might be similar
+     */
+    @Override
+    public boolean canBeSimilar(ComparisonContext comparisonContext) {
+        return this.canBeSimilar(comparisonContext.firstTerm().length(), comparisonContext.secondTerm().length());
+    }
+
+    @Override
+    public boolean canBeSimilar(int firstLength, int secondLength) {
+        int longerLength = Math.max(firstLength, secondLength);
+        if (longerLength == 0) {
+            return true;
+        }
+        double maxJaro = (2.0 + (double) Math.min(firstLength, secondLength) / longerLength) / 3.0;
+        double maxJaroWinkler = maxJaro + MAX_PREFIX_BOOST * (1.0 - maxJaro);
+        return maxJaroWinkler + BOUND_TOLERANCE >= this.similarityThreshold;
+    }
+
     @Override
     public double getSimilarity(ComparisonContext comparisonContext) {
         return this.jaroWinklerSimilarity.apply(comparisonContext.firstTerm(), comparisonContext.secondTerm());
     }
 
+    @Override
+    public boolean dependsOnlyOnTerms() {
+        return true;
+    }
 }
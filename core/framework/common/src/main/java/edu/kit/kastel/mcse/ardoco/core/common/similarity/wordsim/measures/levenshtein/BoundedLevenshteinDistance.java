@@ -0,0 +1,94 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein;
+
+/**
+ * Decides whether the levenshtein distance of two character sequences is at most a given bound. Only the diagonal band of the distance matrix that can hold
+ * values within the bound is computed, and the computation stops as soon as no cell of a row is within the bound. The rows are kept in buffers that are
+ * reused by each thread, so a check does not allocate.
+ */
+public final class BoundedLevenshteinDistance {
+
+    // larger than every bound, but small enough that adding one does not overflow
+    private static final int OUT_OF_BAND = Integer.MAX_VALUE / 2;
+
+    private static final ThreadLocal<RowBuffers> ROW_BUFFERS = ThreadLocal.withInitial(RowBuffers::new);
+
+    private BoundedLevenshteinDistance() {
+        throw new IllegalStateException("Cannot be instantiated");
+    }
+
+    /**
+     * Checks whether the levenshtein distance of the specified character sequences is at most the specified bound.
+     *
+     * @param left        the first character sequence
+     * @param right       the second character sequence
+     * @param maxDistance the maximum distance, must be non-negative
+     * @return true if the levenshtein distance of the sequences is at most the maximum distance
+     * @throws IllegalArgumentException if the maximum distance is negative
+     */
+    public static boolean isWithinDistance(CharSequence left, CharSequence right, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("maxDistance must be a non-negative integer: " + maxDistance);
+        }
+        int leftLength = left.length();
+        int rightLength = right.length();
+        if (Math.abs(leftLength - rightLength) > maxDistance) {
+            return false;
+        }
+        if (leftLength == 0 || rightLength == 0) {
+            return true;
+        }
+
+        RowBuffers buffers = ROW_BUFFERS.get();
+        buffers.ensureCapacity(rightLength + 1);
+        int[] previous = buffers.previous;
+        int[] current = buffers.current;
+
+        int initialBandEnd = Math.min(rightLength, maxDistance);
+        for (int j = 0; j <= initialBandEnd; j++) {
+            previous[j] = j;
+        }
+        if (initialBandEnd < rightLength) {
+            previous[initialBandEnd + 1] = OUT_OF_BAND;
+        }
+
+        for (int i = 1; i <= leftLength; i++) {
+            int bandStart = Math.max(1, i - maxDistance);
+            int bandEnd = Math.min(rightLength, i + maxDistance);
+            current[bandStart - 1] = bandStart == 1 && i <= maxDistance ? i : OUT_OF_BAND;
+            int rowMinimum = current[bandStart - 1];
+
+            char leftChar = left.charAt(i - 1);
+            for (int j = bandStart; j <= bandEnd; j++) {
+                int substitution = previous[j - 1] + (leftChar == right.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (bandEnd < rightLength) {
+                current[bandEnd + 1] = OUT_OF_BAND;
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[rightLength] <= maxDistance;
+    }
+
+    private static final class RowBuffers {
+        private int[] previous = new int[32];
+        private int[] current = new int[32];
+
+        private void ensureCapacity(int capacity) {
+            if (previous.length < capacity) {
+                int newCapacity = Math.max(capacity, 2 * previous.length);
+                previous = new int[newCapacity];
+                current = new int[newCapacity];
+            }
+        }
+    }
+}
@@ -66,13 +66,29 @@ public boolean areWordsSimilar(ComparisonContext comparisonContext) {
         String firstWord = comparisonContext.firstTerm().toLowerCase();
         String secondWord = comparisonContext.secondTerm().toLowerCase();
 
-        int maxDynamicDistance = (int) Math.min(this.maxDistance, this.threshold * Math.min(firstWord.length(), secondWord.length()));
-        int distance = this.levenshteinDistance.apply(firstWord, secondWord);
-
+        // only whether the distance is within the bound matters, so the bounded kernel can stop early
         if (firstWord.length() <= this.minLength) {
-            return distance <= this.maxDistance && (secondWord.contains(firstWord) || firstWord.contains(secondWord));
+            return (secondWord.contains(firstWord) || firstWord.contains(secondWord)) && BoundedLevenshteinDistance.isWithinDistance(firstWord, secondWord,
+                    this.maxDistance);
         }
-        return distance <= maxDynamicDistance;
+        int maxDynamicDistance = (int) Math.min(this.maxDistance, this.threshold * Math.min(firstWord.length(), secondWord.length()));
+        return BoundedLevenshteinDistance.isWithinDistance(firstWord, secondWord, maxDynamicDistance);
+    }
+
+    /**
+     * Checks whether the lengths of the words differ by at most the max distance, as the levenshtein distance is at least the difference of the lengths.
+     *
+     * @param comparisonContext the comparison context
+     * @return false if the words are certainly not similar, true if they might be similar
+     */
+    @Override
+    public boolean canBeSimilar(ComparisonContext comparisonContext) {
+        return this.canBeSimilar(comparisonContext.firstTerm().toLowerCase().length(), comparisonContext.secondTerm().toLowerCase().length());
+    }
+
+    @Override
+    public boolean canBeSimilar(int firstLength, int secondLength) {
+        return Math.abs(firstLength - secondLength) <= this.maxDistance;
     }
 
     @Override
@@ -84,4 +100,8 @@ public double getSimilarity(ComparisonContext comparisonContext) {
         return 1.0 - (distance / (double) Math.max(firstWord.length(), secondWord.length()));
     }
 
+    @Override
+    public boolean dependsOnlyOnTerms() {
+        return true;
+    }
 }
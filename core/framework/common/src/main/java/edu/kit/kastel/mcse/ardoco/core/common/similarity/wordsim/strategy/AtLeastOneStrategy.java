@@ -29,4 +29,41 @@ public boolean areWordsSimilar(ComparisonContext comparisonContext, List<WordSim
         return false;
     }
 
+    /**
+     * Returns true if at least one measure considers that the words can be similar.
+     *
+     * @param comparisonContext the comparison context
+     * @param measures          the measures to use
+     * @return true if at least one measure returns true
+     */
+    @Override
+    public boolean canBeSimilar(ComparisonContext comparisonContext, List<WordSimMeasure> measures) {
+        for (WordSimMeasure measure : measures) {
+            if (measure.canBeSimilar(comparisonContext)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns true if at least one measure considers that terms of the given lengths can be similar.
+     *
+     * @param firstLength  the length of the first term
+     * @param secondLength the length of the second term
+     * @param measures     the measures to use
+     * @return true if at least one measure returns true
+     */
+    @Override
+    public boolean canBeSimilar(int firstLength, int secondLength, List<WordSimMeasure> measures) {
+        for (WordSimMeasure measure : measures) {
+            if (measure.canBeSimilar(firstLength, secondLength)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
 }
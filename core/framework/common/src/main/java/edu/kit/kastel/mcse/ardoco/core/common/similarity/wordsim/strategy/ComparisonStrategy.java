@@ -22,4 +22,30 @@ public interface ComparisonStrategy {
      */
     boolean areWordsSimilar(ComparisonContext comparisonContext, List<WordSimMeasure> measures);
 
+    /**
+     * Cheaply checks whether the words from the given context can be similar according to this strategy and the specified measures. Comparisons for which
+     * this returns false are skipped, so it must never return false for words that {@link #areWordsSimilar(ComparisonContext, List)} considers similar. By
+     * default, all words can be similar.
+     *
+     * @param comparisonContext the context containing the words
+     * @param measures          the measures to use
+     * @return false if the words are certainly not similar, true if they might be similar
+     */
+    default boolean canBeSimilar(ComparisonContext comparisonContext, List<WordSimMeasure> measures) {
+        return true;
+    }
+
+    /**
+     * Cheaply checks whether terms of the given lengths can be similar according to this strategy and the specified measures, see
+     * {@link WordSimMeasure#canBeSimilar(int, int)}. By default, words of all lengths can be similar.
+     *
+     * @param firstLength  the length of the first term
+     * @param secondLength the length of the second term
+     * @param measures     the measures to use
+     * @return false if terms of these lengths are certainly not similar, true if they might be similar
+     */
+    default boolean canBeSimilar(int firstLength, int secondLength, List<WordSimMeasure> measures) {
+        return true;
+    }
+
 }
@@ -0,0 +1,108 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helpers for persistent caches that store their entries as files, e.g., the cache of annotated texts and the cache of predicted file types. Entries are named
+ * after SHA-256 hashes and are written atomically, so concurrent runs that share a cache directory never read a partially written entry.
+ */
+public final class CacheFiles {
+    private static final Logger logger = LoggerFactory.getLogger(CacheFiles.class);
+
+    private CacheFiles() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Writes the content of a file of a cache.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to the given file.
+         *
+         * @param file the file
+         * @throws IOException if the content cannot be written
+         */
+        void write(Path file) throws IOException;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the given content.
+     *
+     * @param content the content
+     * @return the hex encoded hash
+     */
+    public static String hash(byte[] content) {
+        return HexFormat.of().formatHex(createDigest().digest(content));
+    }
+
+    /**
+     * Returns the SHA-256 hash of the given parts. The length of every part is hashed before the part, so different splits of the same characters have
+     * different hashes.
+     *
+     * @param parts the parts, e.g., a format version, a configuration and an input
+     * @return the hex encoded hash
+     */
+    public static String hash(String... parts) {
+        var digest = createDigest();
+        for (String part : parts) {
+            byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+            digest.update((bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Writes a file atomically. The content is written to a temporary file in the directory of the file, which is then moved to the file. The directory is
+     * created if it does not exist. If the file system does not support atomic moves, the temporary file is moved non-atomically.
+     *
+     * @param file   the file
+     * @param writer writes the content to the temporary file
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            writer.write(temporaryFile);
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static void deleteIfExists(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete temporary file {}.", file, e);
+        }
+    }
+}
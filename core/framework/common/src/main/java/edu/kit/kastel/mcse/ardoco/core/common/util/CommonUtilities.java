@@ -15,6 +15,7 @@
 import java.util.SortedSet;
 import java.util.StringJoiner;
 import java.util.TreeSet;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.factory.Lists;
@@ -28,7 +29,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.NounMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
-import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
 
 /**
@@ -40,6 +40,7 @@ public final class CommonUtilities {
      */
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private static final Logger logger = LoggerFactory.getLogger(CommonUtilities.class);
+    private static final ImmutableList<Pattern> SEPARATOR_PATTERNS_TO_SPLIT = CommonTextToolsConfig.SEPARATORS_TO_SPLIT.collect(Pattern::compile);
 
     private CommonUtilities() {
         throw new IllegalAccessError();
@@ -175,8 +176,8 @@ public static double powerMean(List<Double> values, double power) {
      */
     public static ImmutableList<String> splitAtSeparators(String reference) {
         var ref = reference;
-        for (String sep : CommonTextToolsConfig.SEPARATORS_TO_SPLIT) {
-            ref = ref.replaceAll(sep, " ");
+        for (Pattern separator : SEPARATOR_PATTERNS_TO_SPLIT) {
+            ref = separator.matcher(ref).replaceAll(" ");
         }
         return Lists.immutable.withAll(Lists.immutable.with(ref.split(" ")));
     }
@@ -218,15 +219,15 @@ public static void addRecommendedInstancesFromNounMappings(ImmutableList<String>
     }
 
     /**
-     * Retrieves a list of similar types in the given model state given the word.
+     * Retrieves a list of similar types in the given model state given the word. For repeated lookups in the same model, use a
+     * {@link TypeIdentifierVocabulary} instead.
      *
      * @param word  the word that might have type names in the model state
      * @param model the model containing information about types
      * @return List of type names in the model state that are similar to the given word
      */
     public static ImmutableList<String> getSimilarTypes(Word word, Model model) {
-        var identifiers = getSplittedTypeIdentifiers(model);
-        return Lists.immutable.fromStream(identifiers.stream().filter(typeId -> SimilarityUtils.getInstance().areWordsSimilar(typeId, word.getText())));
+        return TypeIdentifierVocabulary.of(model).getSimilarTypes(word);
     }
 
     /**
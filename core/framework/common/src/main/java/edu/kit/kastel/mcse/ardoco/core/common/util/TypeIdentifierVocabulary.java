@@ -0,0 +1,94 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.Model;
+import edu.kit.kastel.mcse.ardoco.core.api.models.ModelStates;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
+
+/**
+ * The split type identifiers of a model (see {@link CommonUtilities#getSplittedTypeIdentifiers(Model)}). The identifiers are computed once when the vocabulary
+ * is created, and the similar type identifiers are remembered for each word text that was looked up. Therefore, a vocabulary should only be used as long as
+ * neither the model nor the similarity measures change, e.g., during the processing of one informant.
+ */
+@Deterministic
+public final class TypeIdentifierVocabulary {
+
+    private final ImmutableSortedSet<String> identifiers;
+    private final Map<String, ImmutableList<String>> similarIdentifiersByText = new ConcurrentHashMap<>();
+
+    private TypeIdentifierVocabulary(ImmutableSortedSet<String> identifiers) {
+        this.identifiers = identifiers;
+    }
+
+    /**
+     * Creates the vocabulary of the type identifiers of the given model.
+     *
+     * @param model the model containing type information
+     * @return the vocabulary of the model
+     */
+    public static TypeIdentifierVocabulary of(Model model) {
+        Objects.requireNonNull(model);
+        return new TypeIdentifierVocabulary(SortedSets.immutable.withSortedSet(CommonUtilities.getSplittedTypeIdentifiers(model)));
+    }
+
+    /**
+     * Creates the vocabularies of the type identifiers of all models of the given model states.
+     *
+     * @param modelStates the model states
+     * @return the vocabularies by the metamodels of the models
+     */
+    public static SortedMap<Metamodel, TypeIdentifierVocabulary> ofModels(ModelStates modelStates) {
+        SortedMap<Metamodel, TypeIdentifierVocabulary> vocabularies = new TreeMap<>();
+        for (var metamodel : modelStates.getMetamodels()) {
+            var model = modelStates.getModel(metamodel);
+            if (model != null) {
+                vocabularies.put(metamodel, of(model));
+            }
+        }
+        return vocabularies;
+    }
+
+    /**
+     * Returns the split type identifiers of the model in their natural order.
+     *
+     * @return the type identifiers
+     */
+    public ImmutableSortedSet<String> getIdentifiers() {
+        return this.identifiers;
+    }
+
+    /**
+     * Returns the type identifiers that are similar to the text of the given word.
+     *
+     * @param word the word
+     * @return the similar type identifiers in their natural order
+     */
+    public ImmutableList<String> getSimilarTypes(Word word) {
+        return this.getSimilarTypes(word.getText());
+    }
+
+    /**
+     * Returns the type identifiers that are similar to the given text.
+     *
+     * @param text the text
+     * @return the similar type identifiers in their natural order
+     */
+    public ImmutableList<String> getSimilarTypes(String text) {
+        return this.similarIdentifiersByText.computeIfAbsent(text, key -> Lists.immutable.fromStream(this.identifiers.stream()
+                .filter(typeId -> SimilarityUtils.getInstance().areWordsSimilar(typeId, key))));
+    }
+}
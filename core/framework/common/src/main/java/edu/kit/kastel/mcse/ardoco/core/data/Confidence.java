@@ -3,32 +3,63 @@
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Triple;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
 
 /**
  * Represents a confidence value for a result, aggregating confidences from multiple claimants using a specified aggregation function.
+ * <p>
+ * Every agent confidence can be tagged with the method of the claimant that added it. The method is only looked up on the call stack if the recording of
+ * claimant methods is enabled, e.g., for debugging or explanation output, via {@link #setRecordClaimantMethods(boolean)} or the system property
+ * {@value #RECORD_CLAIMANT_METHODS_PROPERTY}. By default, no stack is walked.
+ * <p>
+ * The history of agent confidences is kept in primitive arrays. The maximum confidence of every claimant and the rolling average are updated whenever a
+ * confidence is added, and the aggregated value is cached until the next change, so reading the confidence does not re-group the history.
  */
 @Deterministic
 public final class Confidence implements Comparable<Confidence>, Serializable {
 
     @Serial
-    private static final long serialVersionUID = 4307327201754195030L;
+    private static final long serialVersionUID = -2316520944380316251L;
+
+    /**
+     * System property that enables the recording of claimant methods if it is set to {@code true}.
+     */
+    public static final String RECORD_CLAIMANT_METHODS_PROPERTY = "ardoco.confidence.recordClaimantMethods";
+
+    private static final String UNKNOWN_METHOD = "Unknown Method";
+    private static final String UNRECORDED_METHOD = "Unrecorded Method";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static volatile boolean recordClaimantMethods = Boolean.getBoolean(RECORD_CLAIMANT_METHODS_PROPERTY);
+
+    private static final int INITIAL_CAPACITY = 2;
 
     private final AggregationFunctions confidenceAggregator;
 
-    // Claimant, Confidence, MethodName
-    private List<Triple<Claimant, Double, String>> agentConfidences;
+    // history of the agent confidences: claimant, confidence, and method name at the same position
+    private Claimant[] claimants;
+    private double[] confidences;
+    private String[] methods;
+    private int size;
+
+    // distinct claimants in the order of their first confidence, and the maximum of their confidences
+    private Claimant[] distinctClaimants;
+    private double[] claimantMaxima;
+    private int distinctClaimantCount;
+
+    private double rollingAverage;
+
+    private transient double cachedConfidence;
+    private transient boolean cacheValid;
 
     /**
      * Constructor for the confidence with a given aggregator function.
@@ -37,12 +68,25 @@ public final class Confidence implements Comparable<Confidence>, Serializable {
      */
     public Confidence(AggregationFunctions confidenceAggregator) {
         this.confidenceAggregator = confidenceAggregator;
-        this.agentConfidences = new ArrayList<>();
+        this.claimants = new Claimant[INITIAL_CAPACITY];
+        this.confidences = new double[INITIAL_CAPACITY];
+        this.methods = new String[INITIAL_CAPACITY];
+        this.distinctClaimants = new Claimant[INITIAL_CAPACITY];
+        this.claimantMaxima = new double[INITIAL_CAPACITY];
     }
 
-    private Confidence(AggregationFunctions confidenceAggregator, List<Triple<Claimant, Double, String>> agentConfidence) {
-        this(confidenceAggregator);
-        this.agentConfidences = new ArrayList<>(agentConfidence);
+    private Confidence(Confidence other) {
+        this.confidenceAggregator = other.confidenceAggregator;
+        this.claimants = Arrays.copyOf(other.claimants, Math.max(other.size, INITIAL_CAPACITY));
+        this.confidences = Arrays.copyOf(other.confidences, this.claimants.length);
+        this.methods = Arrays.copyOf(other.methods, this.claimants.length);
+        this.size = other.size;
+        this.distinctClaimants = Arrays.copyOf(other.distinctClaimants, Math.max(other.distinctClaimantCount, INITIAL_CAPACITY));
+        this.claimantMaxima = Arrays.copyOf(other.claimantMaxima, this.distinctClaimants.length);
+        this.distinctClaimantCount = other.distinctClaimantCount;
+        this.rollingAverage = other.rollingAverage;
+        this.cachedConfidence = other.cachedConfidence;
+        this.cacheValid = other.cacheValid;
     }
 
     /**
@@ -52,9 +96,7 @@ private Confidence(AggregationFunctions confidenceAggregator, List<Triple<Claima
      */
     public Set<Claimant> getClaimants() {
         Set<Claimant> identitySet = Collections.newSetFromMap(new IdentityHashMap<>());
-        for (var confidence : this.agentConfidences) {
-            identitySet.add(confidence.first());
-        }
+        identitySet.addAll(Arrays.asList(this.claimants).subList(0, this.size));
         return identitySet;
     }
 
@@ -64,28 +106,78 @@ public Set<Claimant> getClaimants() {
      * @return a new instance of Confidence with the same properties
      */
     public Confidence createCopy() {
-        return new Confidence(this.confidenceAggregator, this.agentConfidences);
+        return new Confidence(this);
+    }
+
+    /**
+     * Returns whether the methods of claimants are looked up on the call stack.
+     *
+     * @return true if claimant methods are recorded, false otherwise
+     */
+    public static boolean isRecordClaimantMethods() {
+        return recordClaimantMethods;
+    }
+
+    /**
+     * Sets whether the methods of claimants are looked up on the call stack. Walking the stack is expensive, so this should only be enabled for debugging or
+     * explanation output.
+     *
+     * @param recordClaimantMethods whether claimant methods are recorded
+     */
+    public static void setRecordClaimantMethods(boolean recordClaimantMethods) {
+        Confidence.recordClaimantMethods = recordClaimantMethods;
     }
 
     /**
-     * Add a confidence of an agent ({@link Claimant}.
+     * Add a confidence of an agent ({@link Claimant}. The calling method of the claimant is only recorded if {@link #isRecordClaimantMethods() enabled}.
      *
      * @param claimant   the claimant
      * @param confidence the confidence
      */
     public void addAgentConfidence(Claimant claimant, double confidence) {
-        String method = this.getMethodInClaimant(claimant);
-        this.agentConfidences.add(new Triple<>(claimant, confidence, method));
+        String method = recordClaimantMethods ? getMethodInClaimant(claimant) : UNRECORDED_METHOD;
+        this.add(claimant, confidence, method);
+    }
+
+    private static String getMethodInClaimant(Claimant claimant) {
+        String claimantClassName = claimant.getClass().getName();
+        return STACK_WALKER.walk(frames -> frames.filter(frame -> frame.getClassName().equals(claimantClassName))
+                .map(StackWalker.StackFrame::getMethodName)
+                .findFirst()
+                .orElse(UNKNOWN_METHOD));
     }
 
-    private String getMethodInClaimant(Claimant claimant) {
-        var trace = new Exception().getStackTrace();
-        for (var te : trace) {
-            if (te.getClassName().equals(claimant.getClass().getName())) {
-                return te.getMethodName();
+    private void add(Claimant claimant, double confidence, String method) {
+        if (this.size == this.claimants.length) {
+            int capacity = this.size * 2;
+            this.claimants = Arrays.copyOf(this.claimants, capacity);
+            this.confidences = Arrays.copyOf(this.confidences, capacity);
+            this.methods = Arrays.copyOf(this.methods, capacity);
+        }
+        this.claimants[this.size] = claimant;
+        this.confidences[this.size] = confidence;
+        this.methods[this.size] = method;
+        this.rollingAverage = this.size == 0 ? confidence : (this.rollingAverage + confidence) / 2;
+        this.size++;
+        this.updateClaimantMaximum(claimant, confidence);
+        this.cacheValid = false;
+    }
+
+    private void updateClaimantMaximum(Claimant claimant, double confidence) {
+        for (int i = 0; i < this.distinctClaimantCount; i++) {
+            if (Objects.equals(this.distinctClaimants[i], claimant)) {
+                this.claimantMaxima[i] = Math.max(this.claimantMaxima[i], confidence);
+                return;
             }
         }
-        return "Unknown Method";
+        if (this.distinctClaimantCount == this.distinctClaimants.length) {
+            int capacity = this.distinctClaimantCount * 2;
+            this.distinctClaimants = Arrays.copyOf(this.distinctClaimants, capacity);
+            this.claimantMaxima = Arrays.copyOf(this.claimantMaxima, capacity);
+        }
+        this.distinctClaimants[this.distinctClaimantCount] = claimant;
+        this.claimantMaxima[this.distinctClaimantCount] = confidence;
+        this.distinctClaimantCount++;
     }
 
     @Override
@@ -102,27 +194,38 @@ public String toString() {
     }
 
     /**
-     * Returns the (aggregated) confidence value
+     * Returns the (aggregated) confidence value. The confidences of every claimant are aggregated by their maximum first, and the maxima are then aggregated
+     * with the aggregation function of this confidence. The rolling average is applied to all confidences in the order in which they were added instead.
      *
      * @return the (aggregated) confidence value
      */
     public double getConfidence() {
-        if (this.agentConfidences.isEmpty()) {
+        if (!this.cacheValid) {
+            this.cachedConfidence = this.aggregate();
+            this.cacheValid = true;
+        }
+        return this.cachedConfidence;
+    }
+
+    private double aggregate() {
+        if (this.size == 0) {
             return 0;
         }
         if (this.confidenceAggregator == AggregationFunctions.ROLLING_AVERAGE) {
             // No aggregate
-            return this.confidenceAggregator.applyAsDouble(this.agentConfidences.stream().map(Triple::second).toList());
+            return this.rollingAverage;
         }
-        var groupAggregator = AggregationFunctions.MAX;
-        var claimantGroupings = this.agentConfidences.stream().collect(Collectors.groupingBy(Triple::first)).values();
-        var claimantConfidences = claimantGroupings.stream().map(l -> l.stream().map(Triple::second).toList()).map(groupAggregator::applyAsDouble).toList();
+        List<Double> claimantConfidences = Arrays.stream(this.claimantMaxima, 0, this.distinctClaimantCount).boxed().toList();
         return this.confidenceAggregator.applyAsDouble(claimantConfidences);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.agentConfidences, this.confidenceAggregator);
+        int result = Objects.hash(this.size, this.confidenceAggregator);
+        for (int i = 0; i < this.size; i++) {
+            result = 31 * result + Objects.hash(this.claimants[i], this.confidences[i], this.methods[i]);
+        }
+        return result;
     }
 
     @Override
@@ -134,10 +237,21 @@ public boolean equals(Object obj) {
             return false;
         }
         var other = (Confidence) obj;
-        return Objects.equals(this.agentConfidences, other.agentConfidences) && this.confidenceAggregator == other.confidenceAggregator;
+        return this.size == other.size && this.confidenceAggregator == other.confidenceAggregator //
+                && Arrays.equals(this.claimants, 0, this.size, other.claimants, 0, other.size) //
+                && Arrays.equals(this.confidences, 0, this.size, other.confidences, 0, other.size) //
+                && Arrays.equals(this.methods, 0, this.size, other.methods, 0, other.size);
     }
 
+    /**
+     * Adds all agent confidences of the specified confidence to this confidence in the order in which they were added to the other confidence.
+     *
+     * @param other the confidence whose agent confidences are added
+     */
     public void addAllConfidences(Confidence other) {
-        this.agentConfidences.addAll(other.agentConfidences);
+        int otherSize = other.size;
+        for (int i = 0; i < otherSize; i++) {
+            this.add(other.claimants[i], other.confidences[i], other.methods[i]);
+        }
     }
 }
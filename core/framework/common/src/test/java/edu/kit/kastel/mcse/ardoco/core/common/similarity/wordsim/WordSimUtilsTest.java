@@ -2,9 +2,22 @@
 package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler.JaroWinklerMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein.LevenshteinMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy;
+
 class WordSimUtilsTest {
 
     @Test
@@ -15,4 +28,141 @@ void getSimilarity() {
         assertEquals(1, wordSimUtils.getSimilarity("lorem ipsum", "lorem ipsum"));
         assertEquals(1, wordSimUtils.getSimilarity("lOrEm IpSuM", "lorem ipsum", true));
     }
+
+    @Test
+    void canBeSimilarNeverRejectsSimilarWords() {
+        List<WordSimMeasure> measures = List.of(new EqualityMeasure(), new LevenshteinMeasure(), new LevenshteinMeasure(2, 3, 0.5), new JaroWinklerMeasure(),
+                new JaroWinklerMeasure(0.7));
+        List<String> words = randomWords();
+        for (String first : words) {
+            for (String second : words) {
+                var ctx = new ComparisonContext(first, second);
+                for (WordSimMeasure measure : measures) {
+                    if (measure.areWordsSimilar(ctx)) {
+                        assertTrue(measure.canBeSimilar(ctx), measure.getClass().getSimpleName() + ": " + first + ", " + second);
+                        assertTrue(measure.canBeSimilar(first.length(), second.length()), measure.getClass().getSimpleName() + ": " + first + ", " + second);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void prefilteredComparisonEqualsBruteForce() {
+        var wordSimUtils = new WordSimUtils();
+        List<WordSimMeasure> measures = WordSimLoader.loadUsingProperties().castToList();
+        List<String> words = randomWords();
+        for (String first : words) {
+            for (String second : words) {
+                boolean sameWordCount = first.toLowerCase().split(" ").length == second.toLowerCase().split(" ").length;
+                boolean bruteForce = sameWordCount && ComparisonStrategy.AT_LEAST_ONE.areWordsSimilar(new ComparisonContext(first, second), measures);
+                assertEquals(bruteForce, wordSimUtils.areWordsSimilar(first, second), first + ", " + second);
+            }
+        }
+    }
+
+    @Test
+    void concurrentComparisonsEqualSequentialComparisons() {
+        List<String> words = randomWords();
+        var sequential = new WordSimUtils();
+        List<Boolean> expected = new ArrayList<>();
+        for (String first : words) {
+            for (String second : words) {
+                expected.add(sequential.areWordsSimilar(first, second));
+            }
+        }
+
+        var concurrent = new WordSimUtils(64);
+        List<Boolean> actual = IntStream.range(0, expected.size())
+                .parallel()
+                .mapToObj(i -> concurrent.areWordsSimilar(words.get(i / words.size()), words.get(i % words.size())))
+                .toList();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void settingMeasuresDiscardsMemoizedVerdicts() {
+        var wordSimUtils = new WordSimUtils();
+        assertTrue(wordSimUtils.areWordsSimilar("database", "databases"));
+        wordSimUtils.setMeasures(List.of(new EqualityMeasure()));
+        assertFalse(wordSimUtils.areWordsSimilar("database", "databases"));
+    }
+
+    @Test
+    void memoizesOnlyMeasuresThatDependOnlyOnTerms() {
+        var termMeasure = new CountingMeasure(true);
+        var wordSimUtils = new WordSimUtils();
+        wordSimUtils.setMeasures(List.of(termMeasure));
+        assertFalse(wordSimUtils.areWordsSimilar("database", "datastore"));
+        assertFalse(wordSimUtils.areWordsSimilar("database", "datastore"));
+        assertEquals(1, termMeasure.getComparisons());
+
+        var contextMeasure = new CountingMeasure(false);
+        wordSimUtils.setMeasures(List.of(termMeasure, contextMeasure));
+        assertFalse(wordSimUtils.areWordsSimilar("database", "datastore"));
+        assertFalse(wordSimUtils.areWordsSimilar("database", "datastore"));
+        assertEquals(2, contextMeasure.getComparisons());
+    }
+
+    @Test
+    void discardsLeastRecentlyUsedVerdicts() {
+        var measure = new CountingMeasure(true);
+        var wordSimUtils = new WordSimUtils(2);
+        wordSimUtils.setMeasures(List.of(measure));
+        wordSimUtils.areWordsSimilar("a", "b");
+        wordSimUtils.areWordsSimilar("c", "d");
+        wordSimUtils.areWordsSimilar("a", "b");
+        assertEquals(2, measure.getComparisons());
+
+        // discards the verdict for c and d, which was used less recently than the one for a and b
+        wordSimUtils.areWordsSimilar("e", "f");
+        wordSimUtils.areWordsSimilar("a", "b");
+        assertEquals(3, measure.getComparisons());
+        wordSimUtils.areWordsSimilar("c", "d");
+        assertEquals(4, measure.getComparisons());
+    }
+
+    private static List<String> randomWords() {
+        var random = new Random(42);
+        List<String> words = new ArrayList<>(List.of("", "a", "A", "database", "Database", "databases", "data base", "datastore", "logic", "logics"));
+        String alphabet = "abcdeABCDE ";
+        for (int i = 0; i < 300; i++) {
+            var word = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static final class CountingMeasure implements WordSimMeasure {
+        private final boolean dependsOnlyOnTerms;
+        private final AtomicInteger comparisons = new AtomicInteger();
+
+        private CountingMeasure(boolean dependsOnlyOnTerms) {
+            this.dependsOnlyOnTerms = dependsOnlyOnTerms;
+        }
+
+        @Override
+        public boolean areWordsSimilar(ComparisonContext comparisonContext) {
+            this.comparisons.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public double getSimilarity(ComparisonContext comparisonContext) {
+            return 0;
+        }
+
+        @Override
+        public boolean dependsOnlyOnTerms() {
+            return this.dependsOnlyOnTerms;
+        }
+
+        private int getComparisons() {
+            return this.comparisons.get();
+        }
+    }
 }
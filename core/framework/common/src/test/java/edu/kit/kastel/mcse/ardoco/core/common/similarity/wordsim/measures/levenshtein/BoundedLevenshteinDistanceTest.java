@@ -0,0 +1,89 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class BoundedLevenshteinDistanceTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedLevenshteinDistanceTest.class);
+
+    private static final List<String> IDENTIFIERS = List.of("persistence", "PersistenceProvider", "persistenceprovider", "ImageProvider", "image",
+            "imageprovider", "Recommender", "recommender", "RecommenderService", "auth", "Authentication", "AuthenticatorService", "registry", "Registry",
+            "WebUI", "webui", "database", "databases", "DatabaseManager", "CacheManager", "cache", "logic", "logics", "Logic", "store", "storage", "Store",
+            "teastore", "TeaStore", "order", "orders", "OrderService", "user", "users", "UserRepository", "product", "products", "category", "categories");
+
+    @Test
+    void agreesWithUnboundedDistance() {
+        var unbounded = new LevenshteinDistance();
+        List<String> words = words();
+        for (String left : words) {
+            for (String right : words) {
+                int distance = unbounded.apply(left, right);
+                for (int maxDistance = 0; maxDistance <= 5; maxDistance++) {
+                    assertEquals(distance <= maxDistance, BoundedLevenshteinDistance.isWithinDistance(left, right, maxDistance),
+                            left + ", " + right + ", " + maxDistance);
+                }
+            }
+        }
+    }
+
+    @Test
+    @Disabled("Only for manual execution")
+    void benchmarkAgainstUnboundedDistance() {
+        List<String> identifiers = IDENTIFIERS.stream().map(identifier -> identifier.toLowerCase(Locale.ROOT)).toList();
+        var unbounded = new LevenshteinDistance();
+        int rounds = 2_000;
+        int maxDistance = 1;
+        long checksum = 0;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            long unboundedStart = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                for (String left : identifiers) {
+                    for (String right : identifiers) {
+                        checksum += unbounded.apply(left, right) <= maxDistance ? 1 : 0;
+                    }
+                }
+            }
+            long unboundedNanos = System.nanoTime() - unboundedStart;
+
+            long boundedStart = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                for (String left : identifiers) {
+                    for (String right : identifiers) {
+                        checksum += BoundedLevenshteinDistance.isWithinDistance(left, right, maxDistance) ? 1 : 0;
+                    }
+                }
+            }
+            long boundedNanos = System.nanoTime() - boundedStart;
+            logger.info("Unbounded distance: {} ms, bounded distance: {} ms", unboundedNanos / 1_000_000, boundedNanos / 1_000_000);
+        }
+        logger.info("Checksum: {}", checksum);
+    }
+
+    private static List<String> words() {
+        var random = new Random(42);
+        List<String> words = new ArrayList<>(List.of("", "a", "ab", "ba"));
+        words.addAll(IDENTIFIERS);
+        String alphabet = "abcAB";
+        for (int i = 0; i < 200; i++) {
+            var word = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
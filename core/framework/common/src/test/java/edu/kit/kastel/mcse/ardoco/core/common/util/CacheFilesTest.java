@@ -0,0 +1,43 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CacheFilesTest {
+
+    @TempDir
+    private Path cacheDirectory;
+
+    @Test
+    void hashSeparatesParts() {
+        assertEquals(CacheFiles.hash("1", "ab"), CacheFiles.hash("1", "ab"));
+        assertNotEquals(CacheFiles.hash("1", "ab"), CacheFiles.hash("1a", "b"));
+        assertNotEquals(CacheFiles.hash("1", "ab"), CacheFiles.hash("1ab"));
+    }
+
+    @Test
+    void writesAtomicallyAndRemovesTemporaryFiles() throws IOException {
+        Path file = this.cacheDirectory.resolve("entries").resolve("entry.json");
+        CacheFiles.writeAtomically(file, temporaryFile -> Files.writeString(temporaryFile, "first"));
+        CacheFiles.writeAtomically(file, temporaryFile -> Files.writeString(temporaryFile, "second"));
+        assertThrows(IOException.class, () -> CacheFiles.writeAtomically(file, temporaryFile -> {
+            Files.writeString(temporaryFile, "partial");
+            throw new IOException("failed");
+        }));
+
+        assertEquals("second", Files.readString(file));
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureComponentModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModelWithComponentsAndInterfaces;
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.Model;
+import edu.kit.kastel.mcse.ardoco.core.api.models.ModelStates;
+import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureComponent;
+import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
+
+class TypeIdentifierVocabularyTest {
+
+    private static final List<String> WORDS = List.of("component", "Component", "components", "basic", "composite", "database", "server", "servers", "logic",
+            "");
+
+    @Test
+    void similarTypesEqualScanOfTypeIdentifiers() {
+        List<ArchitectureItem> components = List.of(component("Logic", "BasicComponent"), component("Storage", "CompositeComponent"), component("Persistence",
+                "Database_Server"));
+        var architectureModel = new ArchitectureModelWithComponentsAndInterfaces(components);
+        var modelStates = new ModelStates();
+        modelStates.addModel(Metamodel.ARCHITECTURE_WITH_COMPONENTS_AND_INTERFACES, architectureModel);
+        modelStates.addModel(Metamodel.ARCHITECTURE_WITH_COMPONENTS, new ArchitectureComponentModel(architectureModel));
+        modelStates.addModel(Metamodel.CODE_WITH_COMPILATION_UNITS, null);
+
+        var vocabularies = TypeIdentifierVocabulary.ofModels(modelStates);
+        assertEquals(List.of(Metamodel.ARCHITECTURE_WITH_COMPONENTS_AND_INTERFACES, Metamodel.ARCHITECTURE_WITH_COMPONENTS), List.copyOf(vocabularies
+                .keySet()));
+        for (var entry : vocabularies.entrySet()) {
+            var model = modelStates.getModel(entry.getKey());
+            var vocabulary = entry.getValue();
+            assertFalse(vocabulary.getIdentifiers().isEmpty());
+            assertEquals(CommonUtilities.getSplittedTypeIdentifiers(model), vocabulary.getIdentifiers().castToSortedSet());
+            for (String word : WORDS) {
+                assertEquals(scanTypeIdentifiers(model, word), vocabulary.getSimilarTypes(word), word);
+                // the second lookup is answered from the remembered identifiers
+                assertEquals(scanTypeIdentifiers(model, word), vocabulary.getSimilarTypes(word), word);
+            }
+        }
+    }
+
+    private static ImmutableList<String> scanTypeIdentifiers(Model model, String word) {
+        return Lists.immutable.fromStream(CommonUtilities.getSplittedTypeIdentifiers(model)
+                .stream()
+                .filter(typeId -> SimilarityUtils.getInstance().areWordsSimilar(typeId, word)));
+    }
+
+    private static ArchitectureComponent component(String name, String type) {
+        return new ArchitectureComponent(name, name, new TreeSet<>(), new TreeSet<>(), new TreeSet<>(), type);
+    }
+}
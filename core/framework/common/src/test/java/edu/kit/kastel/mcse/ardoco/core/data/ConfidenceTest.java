@@ -0,0 +1,79 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+
+class ConfidenceTest {
+
+    private final Claimant first = new Claimant() {
+    };
+    private final Claimant second = new Claimant() {
+    };
+
+    @Test
+    void emptyConfidenceIsZero() {
+        assertEquals(0, new Confidence(AggregationFunctions.AVERAGE).getConfidence());
+    }
+
+    @Test
+    void aggregatesMaximumPerClaimant() {
+        var confidence = new Confidence(AggregationFunctions.AVERAGE);
+        confidence.addAgentConfidence(first, 0.2);
+        confidence.addAgentConfidence(second, 0.4);
+        assertEquals(0.3, confidence.getConfidence(), 1e-9);
+
+        confidence.addAgentConfidence(first, 0.8);
+        assertEquals(0.6, confidence.getConfidence(), 1e-9);
+
+        confidence.addAgentConfidence(first, 0.1);
+        assertEquals(0.6, confidence.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void rollingAverageUsesAllConfidencesInOrder() {
+        var confidence = new Confidence(AggregationFunctions.ROLLING_AVERAGE);
+        confidence.addAgentConfidence(first, 1.0);
+        confidence.addAgentConfidence(first, 0.0);
+        confidence.addAgentConfidence(second, 0.5);
+        assertEquals(0.5, confidence.getConfidence(), 1e-9);
+
+        confidence.addAgentConfidence(first, 1.0);
+        assertEquals(0.75, confidence.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void addAllConfidencesAppendsHistory() {
+        var confidence = new Confidence(AggregationFunctions.SUM);
+        confidence.addAgentConfidence(first, 0.5);
+        var other = new Confidence(AggregationFunctions.MIN);
+        other.addAgentConfidence(second, 0.25);
+        other.addAgentConfidence(first, 0.75);
+
+        confidence.addAllConfidences(other);
+        assertEquals(1.0, confidence.getConfidence(), 1e-9);
+        assertEquals(2, confidence.getClaimants().size());
+
+        confidence.addAllConfidences(confidence);
+        assertEquals(1.0, confidence.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void copyIsIndependent() {
+        var confidence = new Confidence(AggregationFunctions.MAX);
+        confidence.addAgentConfidence(first, 0.5);
+        var copy = confidence.createCopy();
+        assertEquals(confidence, copy);
+        assertEquals(confidence.hashCode(), copy.hashCode());
+
+        copy.addAgentConfidence(second, 0.9);
+        assertNotEquals(confidence, copy);
+        assertEquals(0.5, confidence.getConfidence(), 1e-9);
+        assertEquals(0.9, copy.getConfidence(), 1e-9);
+    }
+}
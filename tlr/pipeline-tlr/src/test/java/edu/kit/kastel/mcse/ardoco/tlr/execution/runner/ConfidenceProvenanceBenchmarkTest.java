@@ -0,0 +1,136 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.execution.runner;
+
+import java.io.File;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.ModelFormat;
+import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
+import edu.kit.kastel.mcse.ardoco.core.data.Confidence;
+import edu.kit.kastel.mcse.ardoco.core.execution.CodeRunnerBaseTest;
+import edu.kit.kastel.mcse.ardoco.core.execution.ConfigurationHelper;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+import edu.kit.kastel.mcse.ardoco.tlr.execution.Transarc;
+import edu.kit.kastel.mcse.ardoco.tlr.models.agents.ArchitectureConfiguration;
+
+/**
+ * Compares the runtime of a full SAD-SAM-Code-TLR run with and without the recording of claimant methods in {@link Confidence confidences}, and the cost of
+ * adding a confidence with the former stack trace lookup of the claimant method against the default without lookup.
+ */
+@Disabled("Only for manual execution")
+class ConfidenceProvenanceBenchmarkTest extends CodeRunnerBaseTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfidenceProvenanceBenchmarkTest.class);
+    private static final int RUNS = 3;
+    private static final int STACK_DEPTH = 150;
+    private static final int CONFIDENCES = 200_000;
+    private static final double CONFIDENCE = 0.5;
+
+    // keeps the looked up method names alive, so the lookup is not optimized away
+    private static volatile String lookedUpMethod;
+
+    @Test
+    @DisplayName("Benchmark recording of claimant methods in confidences")
+    void benchmarkClaimantMethodRecording() {
+        boolean recordClaimantMethods = Confidence.isRecordClaimantMethods();
+        try {
+            // warm up class loading, the CoreNLP models and the JIT before measuring
+            runTransarc();
+            Confidence.setRecordClaimantMethods(false);
+            long withoutRecording = measureRuns();
+            Confidence.setRecordClaimantMethods(true);
+            long withRecording = measureRuns();
+            logger.info("Average runtime without recording of claimant methods: {} ms", withoutRecording);
+            logger.info("Average runtime with recording of claimant methods: {} ms", withRecording);
+        } finally {
+            Confidence.setRecordClaimantMethods(recordClaimantMethods);
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark the former stack trace lookup of claimant methods against the default")
+    void benchmarkStackTraceLookup() {
+        boolean recordClaimantMethods = Confidence.isRecordClaimantMethods();
+        try {
+            var claimant = new BenchmarkClaimant();
+            Confidence.setRecordClaimantMethods(false);
+            // warm up the JIT before measuring
+            atStackDepth(STACK_DEPTH, () -> claimant.addConfidences(ConfidenceProvenanceBenchmarkTest::addAgentConfidenceWithStackTrace));
+            atStackDepth(STACK_DEPTH, () -> claimant.addConfidences(ConfidenceProvenanceBenchmarkTest::addAgentConfidence));
+
+            long withStackTrace = atStackDepth(STACK_DEPTH, () -> claimant.addConfidences(ConfidenceProvenanceBenchmarkTest::addAgentConfidenceWithStackTrace));
+            long withoutLookup = atStackDepth(STACK_DEPTH, () -> claimant.addConfidences(ConfidenceProvenanceBenchmarkTest::addAgentConfidence));
+            Confidence.setRecordClaimantMethods(true);
+            long withStackWalker = atStackDepth(STACK_DEPTH, () -> claimant.addConfidences(ConfidenceProvenanceBenchmarkTest::addAgentConfidence));
+            logger.info("Adding {} confidences at a stack depth of {} with the former stack trace lookup took {} ms", CONFIDENCES, STACK_DEPTH, withStackTrace);
+            logger.info("Adding {} confidences at a stack depth of {} without lookup (default) took {} ms", CONFIDENCES, STACK_DEPTH, withoutLookup);
+            logger.info("Adding {} confidences at a stack depth of {} with the stack walker lookup took {} ms", CONFIDENCES, STACK_DEPTH, withStackWalker);
+        } finally {
+            Confidence.setRecordClaimantMethods(recordClaimantMethods);
+        }
+    }
+
+    private static void addAgentConfidence(Confidence confidence, Claimant claimant) {
+        confidence.addAgentConfidence(claimant, CONFIDENCE);
+    }
+
+    /**
+     * Adds a confidence after looking up the claimant method like {@link Confidence#addAgentConfidence(Claimant, double)} did before the lookup became
+     * optional: the whole stack trace is materialized and searched for the first frame of the claimant.
+     */
+    private static void addAgentConfidenceWithStackTrace(Confidence confidence, Claimant claimant) {
+        String method = "Unknown Method";
+        for (var element : new Exception().getStackTrace()) {
+            if (element.getClassName().equals(claimant.getClass().getName())) {
+                method = element.getMethodName();
+                break;
+            }
+        }
+        lookedUpMethod = method;
+        confidence.addAgentConfidence(claimant, CONFIDENCE);
+    }
+
+    private static long atStackDepth(int depth, LongSupplier measurement) {
+        return depth == 0 ? measurement.getAsLong() : atStackDepth(depth - 1, measurement);
+    }
+
+    private long measureRuns() {
+        long totalNanos = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            runTransarc();
+            totalNanos += System.nanoTime() - start;
+        }
+        return totalNanos / RUNS / 1_000_000;
+    }
+
+    private void runTransarc() {
+        var runner = new Transarc(projectName);
+        var additionalConfigsMap = ConfigurationHelper.loadAdditionalConfigs(new File(additionalConfigs));
+        runner.setUp(new File(inputText), new ArchitectureConfiguration(new File(inputModelArchitecture), ModelFormat.PCM), codeConfiguration,
+                additionalConfigsMap, new File(outputDir));
+        Assertions.assertNotNull(runner.run());
+    }
+
+    private static final class BenchmarkClaimant implements Claimant {
+        private long addConfidences(BiConsumer<Confidence, Claimant> addAgentConfidence) {
+            long start = System.nanoTime();
+            double sum = 0;
+            for (int i = 0; i < CONFIDENCES; i++) {
+                var confidence = new Confidence(AggregationFunctions.MAX);
+                addAgentConfidence.accept(confidence, this);
+                sum += confidence.getConfidence();
+            }
+            Assertions.assertTrue(sum >= 0);
+            return (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+}
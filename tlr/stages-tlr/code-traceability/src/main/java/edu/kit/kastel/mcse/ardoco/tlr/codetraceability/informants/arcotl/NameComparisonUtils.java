@@ -2,22 +2,36 @@
 package edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeModule;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodePackage;
-import edu.stanford.nlp.ling.CoreLabel;
-import edu.stanford.nlp.pipeline.CoreDocument;
-import edu.stanford.nlp.pipeline.StanfordCoreNLP;
-import opennlp.tools.stemmer.PorterStemmer;
-
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Compares the names of architecture and code entities. The same names are compared many times while the cross product of architecture items and compilation
+ * units is evaluated, so the tokens of names and the comparison keys of their token sequences are memoized. Two names are equal for a
+ * {@link PreprocessingMethod} if and only if their comparison keys are equal, which turns containment checks into set lookups. The memoized values only depend
+ * on the names, but they are cleared by {@link #clearCaches()} after every run to bound their size.
+ */
+@Deterministic
 public class NameComparisonUtils {
 
+    private static final Map<String, String> PREPROCESSED_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> PROCESSED_SPLITS = new ConcurrentHashMap<>();
+    private static final Map<NameWithMethod, String> COMPARISON_KEYS = new ConcurrentHashMap<>();
+    private static final Map<NameWithMethod, List<SublistKey>> SUBLIST_KEYS_BY_SIZE = new ConcurrentHashMap<>();
+    private static final Map<NamesWithMethod, Set<String>> SUBLIST_KEY_SETS = new ConcurrentHashMap<>();
+
     private NameComparisonUtils() {
         throw new IllegalStateException("No instantiation provided");
     }
@@ -29,13 +43,13 @@ public static boolean areEqual(Entity namedEntity1, Entity namedEntity2) {
     }
 
     public static double getContainedRatio(Entity namedEntity, List<String> names, PreprocessingMethod methodToUse) {
-        List<String> namesSplit = getProcessedSplit(namedEntity.getName());
-        List<List<String>> allSublists = getAllSublists(namesSplit);
+        List<String> namesSplit = getCachedProcessedSplit(namedEntity.getName());
+        Set<String> containedKeys = getSublistKeySet(names, methodToUse);
         int max = 0;
-        for (List<String> sublist : allSublists) {
-            String substring = concatStrings(sublist);
-            if (isContained(substring, names, methodToUse)) {
-                max = Math.max(max, sublist.size());
+        for (SublistKey sublistKey : getSublistKeysBySize(namedEntity.getName(), methodToUse)) {
+            if (containedKeys.contains(sublistKey.key())) {
+                max = sublistKey.size();
+                break;
             }
         }
         return (double) max / namesSplit.size();
@@ -65,19 +79,8 @@ public static double getInterfaceRatio(Entity interfaceEntity, Entity otherNamed
     //
 
     private static boolean isContained(String a, String b, PreprocessingMethod methodToUse) {
-        List<String> bSplit = getProcessedSplit(b);
-        return isContained(preprocess(a), bSplit, methodToUse);
-    }
-
-    private static boolean isContained(String a, List<String> names, PreprocessingMethod methodToUse) {
-        List<List<String>> allSublists = getAllSublists(names);
-        for (List<String> sublist : allSublists) {
-            String substring = concatStrings(sublist);
-            if (areEqual(a, substring, methodToUse)) {
-                return true;
-            }
-        }
-        return false;
+        List<String> bSplit = getCachedProcessedSplit(b);
+        return getSublistKeySet(bSplit, methodToUse).contains(getComparisonKey(preprocess(a), methodToUse));
     }
 
     //
@@ -142,17 +145,11 @@ public static List<CodePackage> getPackageList(CodeModule codePackage) {
     //
 
     public static String preprocess(String name) {
-        name = name.replaceAll("\\W", "");
-        return name.toLowerCase();
+        return PREPROCESSED_NAMES.computeIfAbsent(name, n -> n.replaceAll("\\W", "").toLowerCase());
     }
 
     public static List<String> getProcessedSplit(String name) {
-        List<String> namesSplit = split(name);
-        List<String> namesProcessed = new ArrayList<>();
-        for (String s : namesSplit) {
-            namesProcessed.add(preprocess(s));
-        }
-        return namesProcessed;
+        return new ArrayList<>(getCachedProcessedSplit(name));
     }
 
     public static List<String> getProcessedSplit(List<String> names) {
@@ -163,6 +160,49 @@ public static List<String> getProcessedSplit(List<String> names) {
         return namesProcessed;
     }
 
+    /**
+     * Removes all memoized tokens and comparison keys.
+     */
+    public static void clearCaches() {
+        PREPROCESSED_NAMES.clear();
+        PROCESSED_SPLITS.clear();
+        COMPARISON_KEYS.clear();
+        SUBLIST_KEYS_BY_SIZE.clear();
+        SUBLIST_KEY_SETS.clear();
+    }
+
+    private static List<String> getCachedProcessedSplit(String name) {
+        return PROCESSED_SPLITS.computeIfAbsent(name, n -> {
+            List<String> namesProcessed = new ArrayList<>();
+            for (String s : split(n)) {
+                namesProcessed.add(preprocess(s));
+            }
+            return Collections.unmodifiableList(namesProcessed);
+        });
+    }
+
+    // comparison keys of the sublists of the processed split of the name, the longest sublists first
+    private static List<SublistKey> getSublistKeysBySize(String name, PreprocessingMethod methodToUse) {
+        return SUBLIST_KEYS_BY_SIZE.computeIfAbsent(new NameWithMethod(name, methodToUse), nameWithMethod -> {
+            List<String> namesSplit = getCachedProcessedSplit(name);
+            List<SublistKey> sublistKeys = new ArrayList<>();
+            for (List<String> sublist : getAllSublists(namesSplit).reversed()) {
+                sublistKeys.add(new SublistKey(sublist.size(), getComparisonKey(concatStrings(sublist), methodToUse)));
+            }
+            return Collections.unmodifiableList(sublistKeys);
+        });
+    }
+
+    private static Set<String> getSublistKeySet(List<String> names, PreprocessingMethod methodToUse) {
+        return SUBLIST_KEY_SETS.computeIfAbsent(new NamesWithMethod(List.copyOf(names), methodToUse), namesWithMethod -> {
+            Set<String> sublistKeys = new LinkedHashSet<>();
+            for (List<String> sublist : getAllSublists(namesWithMethod.names())) {
+                sublistKeys.add(getComparisonKey(concatStrings(sublist), methodToUse));
+            }
+            return Collections.unmodifiableSet(sublistKeys);
+        });
+    }
+
     private static <T> List<List<T>> getAllSublists(List<T> list) {
         List<List<T>> allSublists = new ArrayList<>();
         for (int numberOfElements = 1; numberOfElements <= list.size(); numberOfElements++) {
@@ -182,7 +222,7 @@ private static String concatStrings(List<String> names) {
     }
 
     private static int getWordCount(String name) {
-        return getProcessedSplit(name).size();
+        return getCachedProcessedSplit(name).size();
     }
 
     //
@@ -192,45 +232,38 @@ public enum PreprocessingMethod {
     }
 
     private static boolean areEqual(String name1, String name2, PreprocessingMethod methodToUse) {
-        return switch (methodToUse) {
-            case NONE -> areEqual(name1, name2);
-            case STEMMING -> areEqualStemmed(name1, name2);
-            case LEMMATIZATION -> areEqualLemmatized(name1, name2);
-        };
-    }
-
-    private static boolean areEqual(String name1, String name2) {
-        return preprocess(name1).equals(preprocess(name2));
-    }
-
-    private static boolean areEqualStemmed(String name1, String name2) {
-        PorterStemmer stemmer = new PorterStemmer();
-        String stemmed1 = stemmer.stem(name1);
-        String stemmed2 = stemmer.stem(name2);
-        return areEqual(stemmed1, stemmed2);
-    }
-
-    private static boolean areEqualLemmatized(String name1, String name2) {
-        // set up pipeline properties
-        Properties props = new Properties();
-        // set the list of annotators to run
-        props.setProperty("annotators", "tokenize,pos,lemma");
-        // build pipeline
-        StanfordCoreNLP pipeline = new StanfordCoreNLP(props);
-        // create document objects
-        CoreDocument document = pipeline.processToCoreDocument(name1);
-        CoreDocument document2 = pipeline.processToCoreDocument(name2);
-        if (document.tokens().size() != document2.tokens().size()) {
-            return false;
-        }
-        for (int i = 0; i < document.tokens().size(); i++) {
-            CoreLabel tok = document.tokens().get(i);
-            CoreLabel tok2 = document2.tokens().get(i);
-            if (!areEqual(tok.lemma(), tok2.lemma())) {
-                return false;
-            }
+        return getComparisonKey(name1, methodToUse).equals(getComparisonKey(name2, methodToUse));
+    }
+
+    // two names are equal for a preprocessing method if and only if their comparison keys are equal
+    private static String getComparisonKey(String name, PreprocessingMethod methodToUse) {
+        return COMPARISON_KEYS.computeIfAbsent(new NameWithMethod(name, methodToUse), nameWithMethod -> switch (methodToUse) {
+            case NONE -> preprocess(name);
+            case STEMMING -> getStemmedKey(name);
+            case LEMMATIZATION -> getLemmatizedKey(name);
+        });
+    }
+
+    private static String getStemmedKey(String name) {
+        return preprocess(NameNormalizer.getInstance().stem(name));
+    }
+
+    // preprocessed lemmas only consist of word characters, so joining them with spaces keeps the number and order of the tokens
+    private static String getLemmatizedKey(String name) {
+        List<String> lemmas = new ArrayList<>();
+        for (String lemma : NameNormalizer.getInstance().lemmatize(name)) {
+            lemmas.add(preprocess(lemma));
         }
-        return true;
+        return String.join(" ", lemmas);
+    }
+
+    private record NameWithMethod(String name, PreprocessingMethod method) {
+    }
+
+    private record NamesWithMethod(List<String> names, PreprocessingMethod method) {
+    }
+
+    private record SublistKey(int size, String key) {
     }
 
     //
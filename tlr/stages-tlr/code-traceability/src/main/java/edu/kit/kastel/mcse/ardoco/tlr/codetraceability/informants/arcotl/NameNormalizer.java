@@ -0,0 +1,134 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.StanfordCoreNLPPool;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import opennlp.tools.stemmer.PorterStemmer;
+
+/**
+ * Stems and lemmatizes names for the {@link NameComparisonUtils.PreprocessingMethod preprocessing methods} of the name comparison. The normalizer is shared by
+ * all heuristics and is thread-safe. Every thread reuses its own stemmer, and the CoreNLP pipeline for lemmatization is taken from the
+ * {@link StanfordCoreNLPPool} on first use. The normalized forms of the most recently used names are kept in bounded least-recently-used caches.
+ */
+@Deterministic
+public final class NameNormalizer {
+
+    /**
+     * The number of stemmed and the number of lemmatized forms that the shared normalizer keeps.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private static final NameNormalizer INSTANCE = new NameNormalizer(DEFAULT_CACHE_SIZE);
+
+    private final ThreadLocal<PorterStemmer> stemmers = ThreadLocal.withInitial(PorterStemmer::new);
+    private final Map<String, String> stemmedForms;
+    private final Map<String, List<String>> lemmatizedForms;
+    private StanfordCoreNLP lemmatizationPipeline;
+
+    /**
+     * Creates a new normalizer that keeps at most the specified number of stemmed and lemmatized forms each.
+     *
+     * @param cacheSize the maximum number of cached forms per normalization, must be positive
+     * @throws IllegalArgumentException if the cache size is not positive
+     */
+    public NameNormalizer(int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive");
+        }
+        this.stemmedForms = new LeastRecentlyUsedCache<>(cacheSize);
+        this.lemmatizedForms = new LeastRecentlyUsedCache<>(cacheSize);
+    }
+
+    /**
+     * Returns the normalizer that is shared by all heuristics.
+     *
+     * @return the shared normalizer
+     */
+    public static NameNormalizer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the Porter stem of the specified name.
+     *
+     * @param name the name to stem
+     * @return the stemmed name
+     */
+    public String stem(String name) {
+        return getOrCompute(stemmedForms, name, n -> stemmers.get().stem(n));
+    }
+
+    /**
+     * Returns the lemmas of the tokens of the specified name in the order of the tokens.
+     *
+     * @param name the name to lemmatize
+     * @return the unmodifiable list of lemmas of the name's tokens
+     */
+    public List<String> lemmatize(String name) {
+        return getOrCompute(lemmatizedForms, name, this::computeLemmas);
+    }
+
+    private List<String> computeLemmas(String name) {
+        CoreDocument document;
+        StanfordCoreNLP pipeline = getLemmatizationPipeline();
+        synchronized (pipeline) {
+            document = pipeline.processToCoreDocument(name);
+        }
+        List<String> lemmas = new ArrayList<>();
+        for (CoreLabel token : document.tokens()) {
+            lemmas.add(token.lemma());
+        }
+        return Collections.unmodifiableList(lemmas);
+    }
+
+    private synchronized StanfordCoreNLP getLemmatizationPipeline() {
+        if (lemmatizationPipeline == null) {
+            Properties props = new Properties();
+            props.setProperty("annotators", "tokenize,pos,lemma");
+            lemmatizationPipeline = StanfordCoreNLPPool.getPipeline(props);
+        }
+        return lemmatizationPipeline;
+    }
+
+    // the form is computed outside of the lock, so a slow normalization does not block the other threads
+    private static <V> V getOrCompute(Map<String, V> cache, String name, Function<String, V> normalization) {
+        synchronized (cache) {
+            V cached = cache.get(name);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        V normalized = normalization.apply(name);
+        synchronized (cache) {
+            cache.putIfAbsent(name, normalized);
+        }
+        return normalized;
+    }
+
+    @Deterministic
+    private static final class LeastRecentlyUsedCache<K, V> extends LinkedHashMap<K, V> {
+
+        private final int maximumSize;
+
+        private LeastRecentlyUsedCache(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
@@ -118,8 +118,12 @@ public static Set<ArchitectureCodeTraceLink> generateTraceLinks(Node root, Archi
             root = getRoot();
         }
 
-        Computation computation = new Computation(root, archModel, codeModel);
-        return computation.getTraceLinks();
+        try {
+            Computation computation = new Computation(root, archModel, codeModel);
+            return computation.getTraceLinks();
+        } finally {
+            NameComparisonUtils.clearCaches();
+        }
     }
 
     public static Set<ArchitectureCodeTraceLink> generateTraceLinks(ArchitectureModel archModel, CodeModel codeModel) {
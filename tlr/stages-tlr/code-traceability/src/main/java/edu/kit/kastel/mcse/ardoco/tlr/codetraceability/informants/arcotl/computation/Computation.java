@@ -19,7 +19,8 @@ public class Computation {
     private final ComputationResult result;
 
     /**
-     * Creates a new computation with the specified computation tree and the specified models between which trace links will be calculated.
+     * Creates a new computation with the specified computation tree and the specified models between which trace links will be calculated. The nodes of the
+     * tree are computed concurrently by a {@link ComputationScheduler}.
      *
      * @param root      the root of the computation tree
      * @param archModel the architecture model for which trace links will be calculated
@@ -27,7 +28,7 @@ public class Computation {
      */
     public Computation(Node root, ArchitectureModel archModel, CodeModel codeModel) {
         this.root = root;
-        this.result = root.compute(archModel, codeModel, new ComputationResult());
+        this.result = new ComputationScheduler().compute(root, archModel, codeModel);
     }
 
     /**
@@ -71,20 +71,6 @@ public Set<ArchitectureCodeTraceLink> getTraceLinks(Node node) {
         return nodeResult.getTraceLinks();
     }
 
-    /**
-     * Adds a mapping of the specified combination of computation node and endpoint tuple to the specified confidence. If the specified combination was
-     * previously mapped to a confidence, the old confidence is replaced.
-     *
-     * @param node          the computation node for which a confidence is to be added
-     * @param endpointTuple the endpoint tuple for which a confidence is to be added
-     * @param confidence    the confidence of the combination of computation node and endpoint tuple
-     */
-    public void add(Node node, Pair<ArchitectureItem, CodeCompilationUnit> endpointTuple, Confidence confidence) {
-        NodeResult nodeResult = this.resultMap.getOrDefault(node, new NodeResult());
-        nodeResult.add(endpointTuple, confidence);
-        this.resultMap.put(node, nodeResult);
-    }
-
     /**
      * Adds the specified partial computation result to this computation result. Specifically, all confidences of the partial computation result are added to
      * this computation result.
@@ -0,0 +1,113 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.computationtree.Node;
+
+/**
+ * Computes the results of all nodes of a computation tree concurrently. A computation tree is a directed acyclic graph in which nodes can be shared by several
+ * parents. The scheduler orders the distinct nodes topologically and computes every node exactly once, as soon as the results of all of its children are
+ * available. Nodes that do not depend on each other are therefore computed in parallel.
+ * <p>
+ * Nodes are distinguished by identity, because the equality of heuristic nodes depends on state that changes while they are computed. The results are
+ * independent of the order in which the nodes finish, so the returned computation result equals the one of a sequential
+ * {@link Node#compute(EndpointIndex, ComputationResult) computation}.
+ */
+@Deterministic
+public final class ComputationScheduler {
+
+    private final Executor executor;
+
+    /**
+     * Creates a new scheduler that computes the nodes on the common fork-join pool.
+     */
+    public ComputationScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new scheduler that computes the nodes on the specified executor.
+     *
+     * @param executor the executor on which the nodes are computed
+     */
+    public ComputationScheduler(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Computes the results of all nodes in the computation tree rooted at the specified node. The results are added to the returned computation result in
+     * topological order, i.e., every node's result is added after the results of its children. All nodes share one {@link EndpointIndex} of the specified
+     * models.
+     *
+     * @param root      the root of the computation tree
+     * @param archModel the architecture model for which confidences will be calculated
+     * @param codeModel the code model for which confidences will be calculated
+     * @return the results of all computation nodes in the tree rooted at the specified node
+     */
+    public ComputationResult compute(Node root, ArchitectureModel archModel, CodeModel codeModel) {
+        EndpointIndex index = new EndpointIndex(archModel, codeModel);
+        List<Node> topologicalOrder = getTopologicalOrder(root);
+        Map<Node, CompletableFuture<NodeResult>> scheduledNodes = new IdentityHashMap<>();
+        for (Node node : topologicalOrder) {
+            scheduledNodes.put(node, schedule(node, index, scheduledNodes));
+        }
+
+        ComputationResult result = new ComputationResult();
+        for (Node node : topologicalOrder) {
+            result.addNodeResult(node, join(scheduledNodes.get(node)));
+        }
+        return result;
+    }
+
+    private CompletableFuture<NodeResult> schedule(Node node, EndpointIndex index, Map<Node, CompletableFuture<NodeResult>> scheduledNodes) {
+        List<Node> children = node.getChildren();
+        List<CompletableFuture<NodeResult>> childFutures = children.stream().map(scheduledNodes::get).toList();
+        return CompletableFuture.allOf(childFutures.toArray(CompletableFuture[]::new)).thenApplyAsync(ignored -> {
+            ComputationResult childrenResult = new ComputationResult();
+            for (int i = 0; i < children.size(); i++) {
+                childrenResult.addNodeResult(children.get(i), childFutures.get(i).join());
+            }
+            return node.calculateConfidences(index, childrenResult);
+        }, executor);
+    }
+
+    private static List<Node> getTopologicalOrder(Node root) {
+        List<Node> topologicalOrder = new ArrayList<>();
+        addInPostOrder(root, Collections.newSetFromMap(new IdentityHashMap<>()), topologicalOrder);
+        return topologicalOrder;
+    }
+
+    private static void addInPostOrder(Node node, Set<Node> visited, List<Node> topologicalOrder) {
+        if (!visited.add(node)) {
+            return;
+        }
+        for (Node child : node.getChildren()) {
+            addInPostOrder(child, visited, topologicalOrder);
+        }
+        topologicalOrder.add(node);
+    }
+
+    private static NodeResult join(CompletableFuture<NodeResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Computation of a node failed", e.getCause());
+        }
+    }
+}
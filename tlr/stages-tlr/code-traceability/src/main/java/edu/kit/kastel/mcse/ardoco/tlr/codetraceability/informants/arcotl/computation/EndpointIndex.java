@@ -0,0 +1,132 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
+import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Interns the architecture items and code compilation units of an architecture model and a code model to dense integer ids. The ids define the layout of
+ * the confidence matrix of a {@link NodeResult}: every architecture item is a row and every compilation unit is a column. The ids follow the order in which
+ * {@link CodeTraceabilityHelper#crossProductFromArchitectureItemsToCompilationUnits(ArchitectureModel, CodeModel)} enumerates the endpoint tuples.
+ * <p>
+ * A {@link Computation} creates one index for its models and passes it to every node, so all node results of the computation share the same layout.
+ */
+@Deterministic
+public final class EndpointIndex {
+
+    private final ArchitectureModel archModel;
+    private final CodeModel codeModel;
+    private final List<ArchitectureItem> architectureItems;
+    private final List<CodeCompilationUnit> compilationUnits;
+    private final Map<Entity, Integer> architectureItemIds;
+    private final Map<Entity, Integer> compilationUnitIds;
+
+    /**
+     * Creates the index of the endpoints of the specified models.
+     *
+     * @param archModel the architecture model whose endpoints are the rows of the index
+     * @param codeModel the code model whose compilation units are the columns of the index
+     */
+    public EndpointIndex(ArchitectureModel archModel, CodeModel codeModel) {
+        this.archModel = archModel;
+        this.codeModel = codeModel;
+        this.architectureItems = new ArrayList<>();
+        this.compilationUnits = new ArrayList<>();
+        this.architectureItemIds = new LinkedHashMap<>();
+        this.compilationUnitIds = new LinkedHashMap<>();
+        for (ArchitectureItem architectureItem : archModel.getEndpoints()) {
+            if (architectureItemIds.putIfAbsent(architectureItem, architectureItems.size()) == null) {
+                architectureItems.add(architectureItem);
+            }
+        }
+        for (var codeEndpoint : codeModel.getEndpoints()) {
+            // Currently only supported for codeCompilationUnits due to Heuristics
+            if (codeEndpoint instanceof CodeCompilationUnit compilationUnit && compilationUnitIds.putIfAbsent(compilationUnit, compilationUnits
+                    .size()) == null) {
+                compilationUnits.add(compilationUnit);
+            }
+        }
+    }
+
+    /**
+     * Returns the architecture model whose endpoints are the rows of this index.
+     *
+     * @return the architecture model
+     */
+    public ArchitectureModel getArchitectureModel() {
+        return archModel;
+    }
+
+    /**
+     * Returns the code model whose compilation units are the columns of this index.
+     *
+     * @return the code model
+     */
+    public CodeModel getCodeModel() {
+        return codeModel;
+    }
+
+    /**
+     * Returns the architecture items in the order of their ids.
+     *
+     * @return the architecture items
+     */
+    public List<ArchitectureItem> getArchitectureItems() {
+        return Collections.unmodifiableList(architectureItems);
+    }
+
+    /**
+     * Returns the code compilation units in the order of their ids.
+     *
+     * @return the code compilation units
+     */
+    public List<CodeCompilationUnit> getCompilationUnits() {
+        return Collections.unmodifiableList(compilationUnits);
+    }
+
+    public int getArchitectureItemCount() {
+        return architectureItems.size();
+    }
+
+    public int getCompilationUnitCount() {
+        return compilationUnits.size();
+    }
+
+    public ArchitectureItem getArchitectureItem(int id) {
+        return architectureItems.get(id);
+    }
+
+    public CodeCompilationUnit getCompilationUnit(int id) {
+        return compilationUnits.get(id);
+    }
+
+    /**
+     * Returns the id of the specified entity if it is an indexed architecture item, or -1 otherwise.
+     *
+     * @param entity the entity whose id is to be returned
+     * @return the id of the architecture item, or -1 if the entity is not indexed as architecture item
+     */
+    public int getArchitectureItemId(Entity entity) {
+        return architectureItemIds.getOrDefault(entity, -1);
+    }
+
+    /**
+     * Returns the id of the specified entity if it is an indexed code compilation unit, or -1 otherwise.
+     *
+     * @param entity the entity whose id is to be returned
+     * @return the id of the compilation unit, or -1 if the entity is not indexed as compilation unit
+     */
+    public int getCompilationUnitId(Entity entity) {
+        return compilationUnitIds.getOrDefault(entity, -1);
+    }
+}
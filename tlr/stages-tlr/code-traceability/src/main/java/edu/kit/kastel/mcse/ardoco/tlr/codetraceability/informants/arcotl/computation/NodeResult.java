@@ -1,44 +1,74 @@
 /* Licensed under MIT 2023-2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
-import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItem;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.codetraceability.ArchitectureCodeTraceLink;
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
 
 /**
  * The result of a computation node. A computation node's final result are the calculated {@link Confidence confidences} of every endpoint tuple.
+ * <p>
+ * The confidences are stored in a dense matrix whose rows are the architecture items and whose columns are the code compilation units of an
+ * {@link EndpointIndex}. Queries for a single endpoint therefore only visit the row or column of that endpoint.
  */
 @Deterministic
 public class NodeResult {
 
-    private final Map<Pair<ArchitectureItem, CodeCompilationUnit>, Confidence> confidenceMap;
+    /**
+     * Marks an endpoint tuple whose confidence has not been calculated and added yet.
+     */
+    private static final double NOT_CALCULATED = -1.0;
+    /**
+     * Marks an endpoint tuple whose confidence has been calculated but has no value.
+     */
+    private static final double NO_VALUE = Double.NaN;
+
+    private final EndpointIndex index;
+    private final double[] confidences;
 
     /**
-     * Creates a new computation node result. It is initially empty, so the confidences of the endpoint tuples still need to be added after they have been
-     * calculated.
+     * Creates a new computation node result for the endpoint tuples of the specified index. It is initially empty, so the confidences of the endpoint tuples
+     * still need to be added after they have been calculated.
+     *
+     * @param index the index of the endpoints of the result
      */
-    public NodeResult() {
-        this.confidenceMap = new LinkedHashMap<>();
+    public NodeResult(EndpointIndex index) {
+        this(index, NOT_CALCULATED);
     }
 
-    public NodeResult(ArchitectureModel archModel, CodeModel codeModel) {
-        this.confidenceMap = new LinkedHashMap<>();
-        for (var endpointTuple : CodeTraceabilityHelper.crossProductFromArchitectureItemsToCompilationUnits(archModel, codeModel)) {
-            this.add(endpointTuple, new Confidence());
-        }
+    private NodeResult(EndpointIndex index, double initialValue) {
+        this.index = index;
+        this.confidences = new double[index.getArchitectureItemCount() * index.getCompilationUnitCount()];
+        Arrays.fill(this.confidences, initialValue);
+    }
+
+    /**
+     * Creates a new computation node result that contains a confidence without value for every endpoint tuple of the specified index.
+     *
+     * @param index the index of the endpoints of the result
+     * @return the computation node result without values
+     */
+    public static NodeResult withoutValues(EndpointIndex index) {
+        return new NodeResult(index, NO_VALUE);
+    }
+
+    /**
+     * Returns the index of the endpoints of this result.
+     *
+     * @return the index of the endpoints
+     */
+    public EndpointIndex getIndex() {
+        return index;
     }
 
     /**
@@ -49,40 +79,43 @@ public NodeResult(ArchitectureModel archModel, CodeModel codeModel) {
      * @return the confidence of the endpoint tuple, or null if it doesn't exist yet
      */
     public Confidence getConfidence(Pair<ArchitectureItem, CodeCompilationUnit> endpointTuple) {
-        return this.confidenceMap.get(endpointTuple);
+        return this.getConfidence(endpointTuple.first(), endpointTuple.second());
     }
 
-    public Confidence getBestConfidence(Entity endpoint) {
-        Confidence max = new Confidence();
-        for (var entry : this.confidenceMap.entrySet()) {
-            Pair<ArchitectureItem, CodeCompilationUnit> tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasElement(endpoint) && confidence.compareTo(max) > 0) {
-                max = confidence;
-            }
+    /**
+     * Returns the calculated {@link Confidence confidence} of the endpoint tuple of the specified endpoints. Returns null if no confidence for the endpoint
+     * tuple has been calculated and added to this result yet.
+     *
+     * @param archEndpoint the architecture endpoint of the endpoint tuple
+     * @param codeEndpoint the code endpoint of the endpoint tuple
+     * @return the confidence of the endpoint tuple, or null if it doesn't exist yet
+     */
+    public Confidence getConfidence(ArchitectureItem archEndpoint, CodeCompilationUnit codeEndpoint) {
+        int cell = this.getCell(archEndpoint, codeEndpoint);
+        if (cell < 0) {
+            return null;
         }
-        return max;
+        return this.toConfidence(this.confidences[cell]);
     }
 
-    public NodeResult getEndpointTuples(Entity endpoint, Confidence confidence) {
-        NodeResult result = new NodeResult();
-        for (var entry : this.confidenceMap.entrySet()) {
-            Pair<ArchitectureItem, CodeCompilationUnit> endpointTuple = entry.getKey();
-            Confidence otherConfidence = entry.getValue();
-            if (endpointTuple.hasElement(endpoint) && confidence.equals(otherConfidence)) {
-                result.add(endpointTuple, otherConfidence);
+    public Confidence getBestConfidence(Entity endpoint) {
+        EndpointLine line = this.getLine(endpoint);
+        double max = NO_VALUE;
+        for (int i = 0; i < line.length(); i++) {
+            double value = this.confidences[line.cell(i)];
+            if (hasValue(value) && (Double.isNaN(max) || value > max)) {
+                max = value;
             }
         }
-        return result;
+        return this.toConfidence(max);
     }
 
     public SortedSet<Entity> getLinkedEndpoints(Entity endpoint) {
+        EndpointLine line = this.getLine(endpoint);
         SortedSet<Entity> linkedEndpoints = new TreeSet<>();
-        for (var entry : this.confidenceMap.entrySet()) {
-            Pair<ArchitectureItem, CodeCompilationUnit> tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasElement(endpoint) && confidence.hasValue()) {
-                linkedEndpoints.add((Entity) tuple.getOtherElement(endpoint));
+        for (int i = 0; i < line.length(); i++) {
+            if (hasValue(this.confidences[line.cell(i)])) {
+                linkedEndpoints.add(this.getOtherEndpoint(line, i));
             }
         }
         return linkedEndpoints;
@@ -96,12 +129,11 @@ public SortedSet<Entity> getLinkedEndpoints(Entity endpoint) {
      */
     public Set<ArchitectureCodeTraceLink> getTraceLinks() {
         Set<ArchitectureCodeTraceLink> traceLinks = new LinkedHashSet<>();
-        for (var entry : this.confidenceMap.entrySet()) {
-            Confidence confidence = entry.getValue();
-            if (confidence.hasValue()) {
-                Pair<ArchitectureItem, CodeCompilationUnit> endpointTuple = entry.getKey();
-                ArchitectureItem architectureEndpoint = endpointTuple.first();
-                CodeItem codeEndpoint = endpointTuple.second();
+        int compilationUnitCount = this.index.getCompilationUnitCount();
+        for (int cell = 0; cell < this.confidences.length; cell++) {
+            if (hasValue(this.confidences[cell])) {
+                ArchitectureItem architectureEndpoint = this.index.getArchitectureItem(cell / compilationUnitCount);
+                CodeCompilationUnit codeEndpoint = this.index.getCompilationUnit(cell % compilationUnitCount);
                 traceLinks.add(new ArchitectureCodeTraceLink(architectureEndpoint, codeEndpoint));
             }
         }
@@ -109,40 +141,31 @@ public Set<ArchitectureCodeTraceLink> getTraceLinks() {
     }
 
     public boolean hasTraceLink(Entity endpoint) {
-        for (var entry : this.confidenceMap.entrySet()) {
-            Pair<ArchitectureItem, CodeCompilationUnit> tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasElement(endpoint) && confidence.hasValue()) {
+        EndpointLine line = this.getLine(endpoint);
+        for (int i = 0; i < line.length(); i++) {
+            if (hasValue(this.confidences[line.cell(i)])) {
                 return true;
             }
         }
         return false;
     }
 
-    public NodeResult getResultForEndpoint(Entity endpoint) {
-        NodeResult result = new NodeResult();
-        for (var entry : this.confidenceMap.entrySet()) {
-            Pair<ArchitectureItem, CodeCompilationUnit> tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasElement(endpoint)) {
-                result.add(tuple, confidence);
-            }
-        }
-        return result;
-    }
-
-    public NodeResult filter(NodeResult resultToFilter) {
-        NodeResult result = new NodeResult();
-        for (var entry : this.confidenceMap.entrySet()) {
-            Pair<ArchitectureItem, CodeCompilationUnit> tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (resultToFilter.getConfidence(tuple).hasValue()) {
-                result.add(tuple, new Confidence());
-            } else {
-                result.add(tuple, confidence);
+    /**
+     * Returns true if and only if the specified endpoint has a trace link in this result that none of the specified results to filter has.
+     *
+     * @param endpoint        the endpoint whose trace links are checked
+     * @param resultsToFilter the results whose trace links are filtered out
+     * @return true if the endpoint has a trace link that is not filtered out; false otherwise
+     */
+    public boolean hasUnfilteredTraceLink(Entity endpoint, List<NodeResult> resultsToFilter) {
+        EndpointLine line = this.getLine(endpoint);
+        for (int i = 0; i < line.length(); i++) {
+            int cell = line.cell(i);
+            if (hasValue(this.confidences[cell]) && !isFiltered(cell, resultsToFilter)) {
+                return true;
             }
         }
-        return result;
+        return false;
     }
 
     /**
@@ -152,10 +175,176 @@ public NodeResult filter(NodeResult resultToFilter) {
      * @param confidence    the confidence of the endpoint tuple
      */
     public void add(Pair<ArchitectureItem, CodeCompilationUnit> endpointTuple, Confidence confidence) {
-        this.confidenceMap.put(endpointTuple, confidence);
+        this.add(endpointTuple.first(), endpointTuple.second(), confidence);
+    }
+
+    /**
+     * Adds the calculated {@link Confidence confidence} of the endpoint tuple of the specified endpoints. Throws an {@code IllegalArgumentException} if the
+     * endpoints are not part of the index of this result. Confidences of different endpoint tuples can be added concurrently, as every tuple has its own cell.
+     *
+     * @param archEndpoint the architecture endpoint of the endpoint tuple
+     * @param codeEndpoint the code endpoint of the endpoint tuple
+     * @param confidence   the confidence of the endpoint tuple
+     * @throws IllegalArgumentException if the endpoint tuple is not part of the index of this result
+     */
+    public void add(ArchitectureItem archEndpoint, CodeCompilationUnit codeEndpoint, Confidence confidence) {
+        int cell = this.getCell(archEndpoint, codeEndpoint);
+        if (cell < 0) {
+            throw new IllegalArgumentException("The endpoint tuple is not part of the index of this result");
+        }
+        this.confidences[cell] = toValue(confidence);
     }
 
+    /**
+     * Adds all calculated confidences of the specified partial result to this result. Both results must share the same index.
+     *
+     * @param partialResult the partial result to be added to this result
+     */
     public void addAll(NodeResult partialResult) {
-        this.confidenceMap.putAll(partialResult.confidenceMap);
+        this.requireSameIndex(partialResult);
+        for (int cell = 0; cell < this.confidences.length; cell++) {
+            if (isCalculated(partialResult.confidences[cell])) {
+                this.confidences[cell] = partialResult.confidences[cell];
+            }
+        }
+    }
+
+    /**
+     * Adds the calculated confidences of all endpoint tuples of the specified endpoint in the specified source result to this result.
+     *
+     * @param source   the result whose confidences are added
+     * @param endpoint the endpoint whose endpoint tuples are added
+     */
+    public void addEndpointTuples(NodeResult source, Entity endpoint) {
+        this.requireSameIndex(source);
+        EndpointLine line = this.getLine(endpoint);
+        for (int i = 0; i < line.length(); i++) {
+            int cell = line.cell(i);
+            if (isCalculated(source.confidences[cell])) {
+                this.confidences[cell] = source.confidences[cell];
+            }
+        }
+    }
+
+    /**
+     * Adds the confidences of all endpoint tuples of the specified endpoint in the specified source result that are equal to the specified confidence.
+     *
+     * @param source     the result whose confidences are added
+     * @param endpoint   the endpoint whose endpoint tuples are added
+     * @param confidence the confidence that the added endpoint tuples have in the source result
+     */
+    public void addEndpointTuples(NodeResult source, Entity endpoint, Confidence confidence) {
+        this.requireSameIndex(source);
+        double value = toValue(confidence);
+        EndpointLine line = this.getLine(endpoint);
+        for (int i = 0; i < line.length(); i++) {
+            int cell = line.cell(i);
+            if (Double.compare(source.confidences[cell], value) == 0) {
+                this.confidences[cell] = value;
+            }
+        }
+    }
+
+    /**
+     * Adds the calculated confidences of all endpoint tuples of the specified endpoint in the specified source result to this result. The confidence of an
+     * endpoint tuple loses its value if any of the specified results to filter has a confidence with value for it.
+     *
+     * @param source          the result whose confidences are added
+     * @param endpoint        the endpoint whose endpoint tuples are added
+     * @param resultsToFilter the results whose trace links are filtered out
+     */
+    public void addFilteredEndpointTuples(NodeResult source, Entity endpoint, List<NodeResult> resultsToFilter) {
+        this.requireSameIndex(source);
+        EndpointLine line = this.getLine(endpoint);
+        for (int i = 0; i < line.length(); i++) {
+            int cell = line.cell(i);
+            if (!isCalculated(source.confidences[cell])) {
+                continue;
+            }
+            this.confidences[cell] = isFiltered(cell, resultsToFilter) ? NO_VALUE : source.confidences[cell];
+        }
+    }
+
+    private boolean isFiltered(int cell, List<NodeResult> resultsToFilter) {
+        for (NodeResult resultToFilter : resultsToFilter) {
+            this.requireSameIndex(resultToFilter);
+            if (hasValue(resultToFilter.confidences[cell])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void requireSameIndex(NodeResult other) {
+        if (this.index != other.index) {
+            throw new IllegalArgumentException("The node results do not share the same endpoint index");
+        }
+    }
+
+    private int getCell(ArchitectureItem archEndpoint, CodeCompilationUnit codeEndpoint) {
+        int archId = this.index.getArchitectureItemId(archEndpoint);
+        int codeId = this.index.getCompilationUnitId(codeEndpoint);
+        if (archId < 0 || codeId < 0) {
+            return -1;
+        }
+        return archId * this.index.getCompilationUnitCount() + codeId;
+    }
+
+    /**
+     * Returns the row of the specified endpoint if it is an architecture item, the column if it is a code compilation unit, or an empty line otherwise.
+     */
+    private EndpointLine getLine(Entity endpoint) {
+        int archId = this.index.getArchitectureItemId(endpoint);
+        if (archId >= 0) {
+            return new EndpointLine(archId * this.index.getCompilationUnitCount(), 1, this.index.getCompilationUnitCount(), true);
+        }
+        int codeId = this.index.getCompilationUnitId(endpoint);
+        if (codeId >= 0) {
+            return new EndpointLine(codeId, this.index.getCompilationUnitCount(), this.index.getArchitectureItemCount(), false);
+        }
+        return new EndpointLine(0, 0, 0, false);
+    }
+
+    private Entity getOtherEndpoint(EndpointLine line, int position) {
+        if (line.architectureRow()) {
+            return this.index.getCompilationUnit(position);
+        }
+        return this.index.getArchitectureItem(position);
+    }
+
+    private Confidence toConfidence(double value) {
+        if (!isCalculated(value)) {
+            return null;
+        }
+        if (!hasValue(value)) {
+            return new Confidence();
+        }
+        return new Confidence(value);
+    }
+
+    private static double toValue(Confidence confidence) {
+        return confidence.hasValue() ? confidence.getValue() : NO_VALUE;
+    }
+
+    private static boolean isCalculated(double value) {
+        return value != NOT_CALCULATED;
+    }
+
+    private static boolean hasValue(double value) {
+        return !Double.isNaN(value) && value != NOT_CALCULATED;
+    }
+
+    /**
+     * The cells of a row or column of the confidence matrix.
+     *
+     * @param start           the first cell
+     * @param stride          the distance between two consecutive cells
+     * @param length          the number of cells
+     * @param architectureRow whether the line is the row of an architecture item
+     */
+    private record EndpointLine(int start, int stride, int length, boolean architectureRow) {
+        int cell(int position) {
+            return start + position * stride;
+        }
     }
 }
@@ -5,9 +5,8 @@
 import java.util.List;
 import java.util.Objects;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.ComputationResult;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.functions.aggregation.Aggregation;
 
@@ -38,12 +37,12 @@ public AggregationNode(Aggregation aggregation, List<Node> children) {
     }
 
     @Override
-    public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, ComputationResult result) {
+    public NodeResult calculateConfidences(EndpointIndex index, ComputationResult result) {
         List<NodeResult> childrenResults = new ArrayList<>();
         for (Node child : getChildren()) {
             childrenResults.add(result.getNodeResult(child));
         }
-        return aggregation.calculateConfidences(archModel, codeModel, childrenResults);
+        return aggregation.calculateConfidences(index, childrenResults);
     }
 
     @Override
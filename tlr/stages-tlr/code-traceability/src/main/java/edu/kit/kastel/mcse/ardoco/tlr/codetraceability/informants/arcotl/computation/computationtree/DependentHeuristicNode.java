@@ -3,9 +3,8 @@
 
 import java.util.Objects;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.ComputationResult;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.functions.heuristics.DependentHeuristic;
 
@@ -30,8 +29,8 @@ public DependentHeuristicNode(DependentHeuristic dependentHeuristic, Node child)
     }
 
     @Override
-    public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, ComputationResult result) {
-        return dependentHeuristic.calculateConfidences(archModel, codeModel, result.getNodeResult(getChild()));
+    public NodeResult calculateConfidences(EndpointIndex index, ComputationResult result) {
+        return dependentHeuristic.calculateConfidences(index, result.getNodeResult(getChild()));
     }
 
     @Override
@@ -3,9 +3,8 @@
 
 import java.util.Objects;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.ComputationResult;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.functions.heuristics.StandaloneHeuristic;
 
@@ -30,8 +29,8 @@ public StandaloneHeuristicNode(StandaloneHeuristic standaloneHeuristic) {
     }
 
     @Override
-    public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, ComputationResult result) {
-        return standaloneHeuristic.calculateConfidences(archModel, codeModel);
+    public NodeResult calculateConfidences(EndpointIndex index, ComputationResult result) {
+        return standaloneHeuristic.calculateConfidences(index);
     }
 
     @Override
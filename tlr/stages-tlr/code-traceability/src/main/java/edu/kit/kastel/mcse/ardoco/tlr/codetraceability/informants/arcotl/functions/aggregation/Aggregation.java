@@ -4,8 +4,7 @@
 import java.util.List;
 import java.util.Objects;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 
 /**
@@ -13,7 +12,7 @@
  */
 public abstract class Aggregation {
 
-    public abstract NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, List<NodeResult> childrenResults);
+    public abstract NodeResult calculateConfidences(EndpointIndex index, List<NodeResult> childrenResults);
 
     @Override
     public int hashCode() {
@@ -4,24 +4,22 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
-import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.CodeTraceabilityHelper;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 
 public abstract class ConfidenceAggregator extends Aggregation {
 
     @Override
-    public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, List<NodeResult> childrenResults) {
-        NodeResult nodeResult = new NodeResult();
-        for (Pair<ArchitectureItem, CodeCompilationUnit> endpointTuple : CodeTraceabilityHelper.crossProductFromArchitectureItemsToCompilationUnits(archModel,
-                codeModel)) {
-            Confidence confidence = this.aggregateConfidences(this.getConfidences(childrenResults, endpointTuple));
-            nodeResult.add(endpointTuple, confidence);
+    public NodeResult calculateConfidences(EndpointIndex index, List<NodeResult> childrenResults) {
+        NodeResult nodeResult = new NodeResult(index);
+        for (ArchitectureItem archEndpoint : index.getArchitectureItems()) {
+            for (CodeCompilationUnit codeEndpoint : index.getCompilationUnits()) {
+                Confidence confidence = this.aggregateConfidences(this.getConfidences(childrenResults, archEndpoint, codeEndpoint));
+                nodeResult.add(archEndpoint, codeEndpoint, confidence);
+            }
         }
         return nodeResult;
     }
@@ -31,15 +29,16 @@ public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel co
      * specified node results. Throws an {@code IllegalStateException} if not all the specified node results have a calculated confidence for the specified
      * endpoint tuple.
      *
-     * @param results       the node results for which confidences are to be returned
-     * @param endpointTuple the endpoint tuple for which confidences are to be returned
+     * @param results      the node results for which confidences are to be returned
+     * @param archEndpoint the architecture endpoint of the endpoint tuple for which confidences are to be returned
+     * @param codeEndpoint the code endpoint of the endpoint tuple for which confidences are to be returned
      * @return the specified endpoint tuple's confidences from all the specified node results
      * @throws IllegalStateException if not all the specified node results have a calculated confidence for the specified endpoint tuple
      */
-    private List<Confidence> getConfidences(List<NodeResult> results, Pair<ArchitectureItem, CodeCompilationUnit> endpointTuple) {
+    private List<Confidence> getConfidences(List<NodeResult> results, ArchitectureItem archEndpoint, CodeCompilationUnit codeEndpoint) {
         List<Confidence> confidences = new ArrayList<>();
         for (NodeResult result : results) {
-            Confidence confidence = result.getConfidence(endpointTuple);
+            Confidence confidence = result.getConfidence(archEndpoint, codeEndpoint);
             if (null == confidence) {
                 throw new IllegalStateException("For all of the nodes the endpoint tuple's confidence must have been calculated");
             }
@@ -1,7 +1,6 @@
 /* Licensed under MIT 2023-2024. */
 package edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.functions.aggregation;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
@@ -38,21 +37,15 @@ public static AggregationNode getFilterAlwaysNode(Node... children) {
     }
 
     @Override
-    protected NodeResult matchEndpoint(Entity endpointToMatch, List<NodeResult> childrenResults) {
-        NodeResult unfiltered = childrenResults.getFirst().getResultForEndpoint(endpointToMatch);
-        NodeResult filtered = new NodeResult();
-        filtered.addAll(unfiltered);
+    protected void matchEndpoint(Entity endpointToMatch, List<NodeResult> childrenResults, NodeResult matchResult) {
+        NodeResult unfiltered = childrenResults.getFirst();
+        List<NodeResult> resultsToFilter = childrenResults.subList(1, childrenResults.size());
 
-        List<NodeResult> resultsToFilter = new ArrayList<>(childrenResults);
-        resultsToFilter.removeFirst();
-        for (NodeResult resultToFilter : resultsToFilter) {
-            filtered = filtered.filter(resultToFilter);
+        if (!filterAlways && !unfiltered.hasUnfilteredTraceLink(endpointToMatch, resultsToFilter)) {
+            matchResult.addEndpointTuples(unfiltered, endpointToMatch);
+            return;
         }
-
-        if (!filterAlways && filtered.getTraceLinks().isEmpty()) {
-            return unfiltered;
-        }
-        return filtered;
+        matchResult.addFilteredEndpointTuples(unfiltered, endpointToMatch, resultsToFilter);
     }
 
     @Override
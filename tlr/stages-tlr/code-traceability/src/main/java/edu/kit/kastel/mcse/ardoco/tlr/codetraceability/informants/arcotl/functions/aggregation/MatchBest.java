@@ -27,7 +27,7 @@ public static AggregationNode getMatchBestCodeNode(Node... children) {
     }
 
     @Override
-    protected NodeResult matchEndpoint(Entity endpointToMatch, List<NodeResult> childrenResults) {
+    protected void matchEndpoint(Entity endpointToMatch, List<NodeResult> childrenResults, NodeResult matchResult) {
         Confidence bestConfidence = new Confidence();
         for (NodeResult childResult : childrenResults) {
             Confidence childBestConfidence = (childResult.getBestConfidence(endpointToMatch));
@@ -37,16 +37,12 @@ protected NodeResult matchEndpoint(Entity endpointToMatch, List<NodeResult> chil
         }
 
         if (!bestConfidence.hasValue()) {
-            return new NodeResult();
+            return;
         }
 
-        NodeResult partialMatchResult = new NodeResult();
         for (NodeResult childResult : childrenResults) {
-            NodeResult childBest = childResult.getEndpointTuples(endpointToMatch, bestConfidence);
-            partialMatchResult.addAll(childBest);
+            matchResult.addEndpointTuples(childResult, endpointToMatch, bestConfidence);
         }
-
-        return partialMatchResult;
     }
 
     @Override
@@ -28,13 +28,13 @@ public static AggregationNode getMatchSeqCodeNode(Node... children) {
     }
 
     @Override
-    protected NodeResult matchEndpoint(Entity endpointToMatch, List<NodeResult> childrenResults) {
+    protected void matchEndpoint(Entity endpointToMatch, List<NodeResult> childrenResults, NodeResult matchResult) {
         for (NodeResult childResult : childrenResults) {
             if (childResult.hasTraceLink(endpointToMatch)) {
-                return childResult.getResultForEndpoint(endpointToMatch);
+                matchResult.addEndpointTuples(childResult, endpointToMatch);
+                return;
             }
         }
-        return new NodeResult();
     }
 
     @Override
@@ -5,8 +5,7 @@
 import java.util.Objects;
 
 import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 
 public abstract class Matcher extends Aggregation {
@@ -32,20 +31,27 @@ protected Matcher(EndpointType endpointsToUse) {
     }
 
     @Override
-    public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, List<NodeResult> childrenResults) {
-        NodeResult matchResult = new NodeResult(archModel, codeModel);
+    public NodeResult calculateConfidences(EndpointIndex index, List<NodeResult> childrenResults) {
+        NodeResult matchResult = NodeResult.withoutValues(index);
         List<? extends Entity> endpoints = switch (endpointTypeToMatch) {
-            case ARCHITECTURE -> archModel.getEndpoints();
-            case CODE -> codeModel.getEndpoints();
+            case ARCHITECTURE -> index.getArchitectureModel().getEndpoints();
+            case CODE -> index.getCodeModel().getEndpoints();
         };
         for (Entity endpointToMatch : endpoints) {
-            NodeResult partialMatchResult = matchEndpoint(endpointToMatch, childrenResults);
-            matchResult.addAll(partialMatchResult);
+            matchEndpoint(endpointToMatch, childrenResults, matchResult);
         }
         return matchResult;
     }
 
-    protected abstract NodeResult matchEndpoint(Entity archEndpoint, List<NodeResult> childrenResults);
+    /**
+     * Matches the specified endpoint based on the specified children results. The confidences of the matched endpoint tuples of the endpoint are added to the
+     * specified match result.
+     *
+     * @param endpointToMatch the endpoint to be matched
+     * @param childrenResults the results of the children nodes
+     * @param matchResult     the result to which the confidences of the matched endpoint tuples are added
+     */
+    protected abstract void matchEndpoint(Entity endpointToMatch, List<NodeResult> childrenResults, NodeResult matchResult);
 
     @Override
     public int hashCode() {
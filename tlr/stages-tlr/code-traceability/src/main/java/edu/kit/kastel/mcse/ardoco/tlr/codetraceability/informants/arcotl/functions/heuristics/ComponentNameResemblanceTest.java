@@ -11,7 +11,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItem;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.NameComparisonUtils;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
 
@@ -33,7 +32,7 @@ protected Confidence calculateConfidence(ArchitectureInterface archInterface, Co
     }
 
     private Confidence calculateNameResemblance(ArchitectureItem archEndpoint, CodeCompilationUnit compUnit) {
-        if (this.getNodeResult().getConfidence(new Pair<>(archEndpoint, compUnit)).hasValue()) {
+        if (this.getNodeResult().getConfidence(archEndpoint, compUnit).hasValue()) {
             return new Confidence();
         }
         SortedSet<String> filteredCommonWords = new TreeSet<>(commonWords);
@@ -52,7 +51,7 @@ private Confidence calculateNameResemblance(ArchitectureItem archEndpoint, CodeC
                     filteredCommonWords)) {
                 continue;
             }
-            Confidence extendedConfidence = this.getNodeResult().getConfidence(new Pair<>(archEndpoint, linkedCompUnit));
+            Confidence extendedConfidence = this.getNodeResult().getConfidence(archEndpoint, linkedCompUnit);
             if (extendedConfidence.compareTo(maxConfidence) > 0) {
                 maxConfidence = extendedConfidence;
             }
@@ -4,7 +4,7 @@
 import java.util.Objects;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.computationtree.DependentHeuristicNode;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.computationtree.Node;
@@ -31,10 +31,10 @@ protected ArchitectureModel getArchModel() {
         return archModel;
     }
 
-    public final NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, NodeResult nodeResult) {
+    public final NodeResult calculateConfidences(EndpointIndex index, NodeResult nodeResult) {
         this.nodeResult = nodeResult;
-        this.archModel = archModel;
-        return getNodeResult(archModel, codeModel);
+        this.archModel = index.getArchitectureModel();
+        return getNodeResult(index);
     }
 
     @Override
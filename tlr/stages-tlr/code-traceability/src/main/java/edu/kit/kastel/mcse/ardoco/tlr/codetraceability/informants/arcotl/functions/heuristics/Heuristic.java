@@ -4,14 +4,12 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
-import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureComponent;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureInterface;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
-import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.CodeTraceabilityHelper;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 
 /**
@@ -20,23 +18,34 @@
 public abstract class Heuristic {
     protected static final Logger logger = LoggerFactory.getLogger(Heuristic.class);
 
-    protected final NodeResult getNodeResult(ArchitectureModel archModel, CodeModel codeModel) {
-        NodeResult confidences = new NodeResult();
-        for (var endpointTuple : CodeTraceabilityHelper.crossProductFromArchitectureItemsToCompilationUnits(archModel, codeModel)) {
-            ArchitectureItem archEndpoint = endpointTuple.first();
-            CodeCompilationUnit compUnit = endpointTuple.second();
-            Confidence confidence = new Confidence();
-            if (archEndpoint instanceof ArchitectureInterface archInterface) {
-                confidence = this.calculateConfidence(archInterface, compUnit);
+    protected final NodeResult getNodeResult(EndpointIndex index) {
+        NodeResult confidences = new NodeResult(index);
+        for (ArchitectureItem archEndpoint : index.getArchitectureItems()) {
+            for (CodeCompilationUnit compUnit : index.getCompilationUnits()) {
+                confidences.add(archEndpoint, compUnit, this.calculateEndpointTupleConfidence(archEndpoint, compUnit));
             }
-            if (archEndpoint instanceof ArchitectureComponent archComponent) {
-                confidence = this.calculateConfidence(archComponent, compUnit);
-            }
-            confidences.add(endpointTuple, confidence);
         }
         return confidences;
     }
 
+    /**
+     * Calculates the confidence of the specified endpoint tuple by dispatching to the calculation for components or interfaces. Returns a confidence without
+     * value for any other kind of architecture item.
+     *
+     * @param archEndpoint the architecture endpoint of the tuple
+     * @param compUnit     the code endpoint of the tuple
+     * @return the confidence of the endpoint tuple
+     */
+    protected final Confidence calculateEndpointTupleConfidence(ArchitectureItem archEndpoint, CodeCompilationUnit compUnit) {
+        if (archEndpoint instanceof ArchitectureInterface archInterface) {
+            return this.calculateConfidence(archInterface, compUnit);
+        }
+        if (archEndpoint instanceof ArchitectureComponent archComponent) {
+            return this.calculateConfidence(archComponent, compUnit);
+        }
+        return new Confidence();
+    }
+
     protected Confidence calculateConfidence(ArchitectureComponent archComponent, CodeCompilationUnit compUnit) {
         if (archComponent == null || compUnit == null) {
             logger.warn("null values when calculating confidence (component)");
@@ -61,6 +70,6 @@ public boolean equals(Object obj) {
         if (this == obj) {
             return true;
         }
-        return (obj instanceof Heuristic);
+        return obj != null && this.getClass() == obj.getClass();
     }
 }
@@ -8,7 +8,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.Datatype;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
 
 public class InheritLinks extends DependentHeuristic {
@@ -49,7 +48,7 @@ private Confidence inheritLinks(ArchitectureItem archEndpoint, Datatype codeType
             if (areInDifferentPackages(codeType.getCompilationUnit(), extendedType.getCompilationUnit())) {
                 continue;
             }
-            Confidence extendedConfidence = this.getNodeResult().getConfidence(new Pair<>(archEndpoint, extendedType.getCompilationUnit()));
+            Confidence extendedConfidence = this.getNodeResult().getConfidence(archEndpoint, extendedType.getCompilationUnit());
             if (extendedConfidence.compareTo(maxConfidence) > 0) {
                 maxConfidence = extendedConfidence;
             }
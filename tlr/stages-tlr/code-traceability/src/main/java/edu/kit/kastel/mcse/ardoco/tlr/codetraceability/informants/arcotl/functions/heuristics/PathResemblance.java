@@ -5,10 +5,13 @@
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.BiFunction;
 
 import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
+import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureComponent;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureInterface;
+import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodePackage;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.NameComparisonUtils;
@@ -17,21 +20,21 @@
 public class PathResemblance extends StandaloneHeuristic {
 
     @Override
-    protected Confidence calculateConfidence(ArchitectureComponent archComponent, CodeCompilationUnit compUnit) {
-        return calculatePathResemblance(archComponent, compUnit);
-    }
-
-    @Override
-    protected Confidence calculateConfidence(ArchitectureInterface archInterface, CodeCompilationUnit compUnit) {
-        if (!archInterface.getMethodSignatures().isEmpty()) {
+    protected BiFunction<ArchitectureItem, CodeCompilationUnit, Confidence> getConfidenceFunction(CodeModel codeModel) {
+        SortedSet<String> allPackageNames = getAllPackageNames(codeModel);
+        return (archEndpoint, compUnit) -> {
+            if (archEndpoint instanceof ArchitectureInterface archInterface && !archInterface.getMethodSignatures().isEmpty()) {
+                return new Confidence();
+            }
+            if (archEndpoint instanceof ArchitectureInterface || archEndpoint instanceof ArchitectureComponent) {
+                return calculatePathResemblance(archEndpoint, compUnit, allPackageNames);
+            }
             return new Confidence();
-        }
-        return calculatePathResemblance(archInterface, compUnit);
+        };
     }
 
-    private Confidence calculatePathResemblance(Entity archEndpoint, CodeCompilationUnit compUnit) {
+    private Confidence calculatePathResemblance(Entity archEndpoint, CodeCompilationUnit compUnit, Set<String> allPackageNames) {
         List<String> codeNames = NameComparisonUtils.getProcessedSplit(compUnit.getPathElements());
-        Set<String> allPackageNames = getAllPackageNames();
         if (compUnit.hasParent()) {
             codeNames.removeAll(allPackageNames);
         }
@@ -42,8 +45,8 @@ private Confidence calculatePathResemblance(Entity archEndpoint, CodeCompilation
         return new Confidence(similarity);
     }
 
-    private SortedSet<String> getAllPackageNames() {
-        List<? extends CodePackage> packages = getCodeModel().getAllPackages();
+    private static SortedSet<String> getAllPackageNames(CodeModel codeModel) {
+        List<? extends CodePackage> packages = codeModel.getAllPackages();
         SortedSet<String> allPackageNames = new TreeSet<>();
         for (CodePackage codePackage : packages) {
             allPackageNames.add(codePackage.getName());
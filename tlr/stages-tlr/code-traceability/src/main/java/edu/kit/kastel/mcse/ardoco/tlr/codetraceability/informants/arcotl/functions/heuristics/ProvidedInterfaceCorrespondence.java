@@ -12,7 +12,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeModule;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodePackage;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.Datatype;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.NameComparisonUtils;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
 
@@ -24,7 +23,7 @@ protected Confidence calculateConfidence(ArchitectureComponent archComponent, Co
     }
 
     private Confidence calculateProvidedInterfaceCorrespondence(ArchitectureComponent archComponent, CodeCompilationUnit compUnit) {
-        if (!this.getNodeResult().getConfidence(new Pair<>(archComponent, compUnit)).hasValue() || !compUnit.hasParent()) {
+        if (!this.getNodeResult().getConfidence(archComponent, compUnit).hasValue() || !compUnit.hasParent()) {
             return new Confidence();
         }
 
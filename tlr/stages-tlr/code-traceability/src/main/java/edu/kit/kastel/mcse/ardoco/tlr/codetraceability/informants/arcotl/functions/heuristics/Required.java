@@ -8,7 +8,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureComponent;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureInterface;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
 
 public class Required extends DependentHeuristic {
@@ -19,7 +18,7 @@ protected Confidence calculateConfidence(ArchitectureComponent archComponent, Co
     }
 
     private Confidence calculateReq(ArchitectureComponent archEndpoint, CodeCompilationUnit compUnit) {
-        if (!this.getNodeResult().getConfidence(new Pair<>(archEndpoint, compUnit)).hasValue()) {
+        if (!this.getNodeResult().getConfidence(archEndpoint, compUnit).hasValue()) {
             return new Confidence();
         }
         SortedSet<ArchitectureComponent> allLinks = new TreeSet<>();
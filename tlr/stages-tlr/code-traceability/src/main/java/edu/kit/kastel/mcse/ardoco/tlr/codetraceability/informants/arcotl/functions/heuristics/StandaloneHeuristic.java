@@ -1,49 +1,60 @@
 /* Licensed under MIT 2023-2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.functions.heuristics;
 
-import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
+import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.EndpointIndex;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.NodeResult;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.computationtree.StandaloneHeuristicNode;
 
 /**
- * A heuristic that does not depend on any existing computation node's result.
+ * A heuristic that does not depend on any existing computation node's result. A standalone heuristic holds no state of a computation, so one instance can be
+ * evaluated by several threads at once. The endpoint tuples are split into chunks of consecutive cells of the result that are evaluated in parallel.
  */
 public abstract class StandaloneHeuristic extends Heuristic {
 
-    private CodeModel codeModel;
+    private static final int CHUNK_SIZE = 256;
 
     public StandaloneHeuristicNode getNode() {
         return new StandaloneHeuristicNode(this);
     }
 
-    protected CodeModel getCodeModel() {
-        return codeModel;
+    /**
+     * Calculates the confidence of every endpoint tuple of the specified index. The tuples are evaluated in parallel; every confidence is stored at the
+     * position of its tuple in the {@link EndpointIndex}, so the result does not depend on the evaluation order.
+     *
+     * @param index the index of the endpoints for which confidences will be calculated
+     * @return the calculated confidences for each endpoint tuple
+     */
+    public NodeResult calculateConfidences(EndpointIndex index) {
+        NodeResult confidences = new NodeResult(index);
+        BiFunction<ArchitectureItem, CodeCompilationUnit, Confidence> confidenceFunction = this.getConfidenceFunction(index.getCodeModel());
+        int compilationUnitCount = index.getCompilationUnitCount();
+        int cellCount = index.getArchitectureItemCount() * compilationUnitCount;
+        IntStream.range(0, (cellCount + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().forEach(chunk -> {
+            for (int cell = chunk * CHUNK_SIZE; cell < Math.min(cellCount, (chunk + 1) * CHUNK_SIZE); cell++) {
+                ArchitectureItem archEndpoint = index.getArchitectureItem(cell / compilationUnitCount);
+                CodeCompilationUnit compUnit = index.getCompilationUnit(cell % compilationUnitCount);
+                confidences.add(archEndpoint, compUnit, confidenceFunction.apply(archEndpoint, compUnit));
+            }
+        });
+        return confidences;
     }
 
-    public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel) {
-        this.codeModel = codeModel;
-        return getNodeResult(archModel, codeModel);
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o)
-            return true;
-        if (!(o instanceof StandaloneHeuristic that))
-            return false;
-        if (!super.equals(o))
-            return false;
-
-        return Objects.equals(codeModel, that.codeModel);
-    }
-
-    @Override
-    public int hashCode() {
-        int result = super.hashCode();
-        result = 31 * result + (codeModel != null ? codeModel.hashCode() : 0);
-        return result;
+    /**
+     * Returns the function that calculates the confidence of an endpoint tuple of the specified code model. The function is applied concurrently and must
+     * therefore be thread-safe. Heuristics that need information about the whole code model can override this method to derive that information once per
+     * evaluation.
+     *
+     * @param codeModel the code model whose compilation units are evaluated
+     * @return the function that calculates the confidence of an endpoint tuple
+     */
+    protected BiFunction<ArchitectureItem, CodeCompilationUnit, Confidence> getConfidenceFunction(CodeModel codeModel) {
+        return this::calculateEndpointTupleConfidence;
     }
 }
@@ -8,7 +8,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureInterface;
 import edu.kit.kastel.mcse.ardoco.core.api.models.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
 import edu.kit.kastel.mcse.ardoco.tlr.codetraceability.informants.arcotl.computation.Confidence;
 
 public class SubpackageFilter2 extends DependentHeuristic {
@@ -27,8 +26,7 @@ protected Confidence calculateConfidence(ArchitectureInterface archInterface, Co
     }
 
     private Confidence calculateSubpackageFilter(ArchitectureItem archEndpoint, CodeCompilationUnit compUnit) {
-        Pair<ArchitectureItem, CodeCompilationUnit> thisTuple = new Pair<>(archEndpoint, compUnit);
-        if (!this.getNodeResult().getConfidence(thisTuple).hasValue()) {
+        if (!this.getNodeResult().getConfidence(archEndpoint, compUnit).hasValue()) {
             return new Confidence();
         }
         int i = 0;
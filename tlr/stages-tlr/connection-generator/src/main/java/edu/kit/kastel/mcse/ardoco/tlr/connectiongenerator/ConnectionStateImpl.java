@@ -24,6 +24,8 @@ public class ConnectionStateImpl extends AbstractState implements ConnectionStat
     @Serial
     private static final long serialVersionUID = 3340998661239696150L;
     private final MutableList<TraceLink<RecommendedInstance, ModelEntity>> instanceLinks;
+    // snapshot returned by the getter until the next instance link is added
+    private transient ImmutableList<TraceLink<RecommendedInstance, ModelEntity>> instanceLinksSnapshot;
 
     /**
      * Creates a new connection state.
@@ -34,13 +36,16 @@ public ConnectionStateImpl() {
     }
 
     /**
-     * Returns all instance links.
+     * Returns all instance links. The returned list is a snapshot that is only rebuilt after an instance link was added.
      *
      * @return all instance links
      */
     @Override
     public ImmutableList<TraceLink<RecommendedInstance, ModelEntity>> getInstanceLinks() {
-        return Lists.immutable.withAll(this.instanceLinks);
+        if (this.instanceLinksSnapshot == null) {
+            this.instanceLinksSnapshot = Lists.immutable.withAll(this.instanceLinks);
+        }
+        return this.instanceLinksSnapshot;
     }
 
     /**
@@ -57,6 +62,7 @@ public void addToLinks(RecommendedInstance recommendedModelInstance, ModelEntity
         var newInstanceLink = new RecommendationModelTraceLink(recommendedModelInstance, modelEntity, claimant, probability);
         if (!this.isContainedByInstanceLinks(newInstanceLink)) {
             this.instanceLinks.add(newInstanceLink);
+            this.instanceLinksSnapshot = null;
         } else {
             var optionalInstanceLink = this.instanceLinks.stream().filter(il -> il.equals(newInstanceLink)).findFirst();
             if (optionalInstanceLink.isPresent()) {
@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.tlr.connectiongenerator.informants;
 
 import java.util.List;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.factory.Lists;
@@ -11,6 +12,7 @@
 
 import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
 import edu.kit.kastel.mcse.ardoco.core.api.entity.ModelEntity;
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.Model;
 import edu.kit.kastel.mcse.ardoco.core.api.models.ModelStates;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.recommendationgenerator.RecommendationState;
@@ -21,8 +23,8 @@
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.TextStateStrategy;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
-import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
+import edu.kit.kastel.mcse.ardoco.core.common.util.TypeIdentifierVocabulary;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
@@ -50,23 +52,26 @@ public void process() {
 
         var modelStates = DataRepositoryHelper.getModelStatesData(dataRepository);
         var recommendationStates = DataRepositoryHelper.getRecommendationStates(dataRepository);
+        var typeIdentifierVocabularies = TypeIdentifierVocabulary.ofModels(modelStates);
         for (var word : text.words()) {
-            this.exec(textState, textStateStrategy, modelStates, recommendationStates, word);
+            this.exec(textState, textStateStrategy, modelStates, typeIdentifierVocabularies, recommendationStates, word);
         }
     }
 
-    private void exec(TextState textState, TextStateStrategy textStateStrategy, ModelStates modelStates, RecommendationStates recommendationStates, Word word) {
+    private void exec(TextState textState, TextStateStrategy textStateStrategy, ModelStates modelStates,
+            SortedMap<Metamodel, TypeIdentifierVocabulary> typeIdentifierVocabularies, RecommendationStates recommendationStates, Word word) {
 
         for (var metamodel : modelStates.getMetamodels()) {
             var model = modelStates.getModel(metamodel);
             if (model == null) {
                 continue;
             }
+            var typeIdentifiers = typeIdentifierVocabularies.get(metamodel);
             var recommendationState = recommendationStates.getRecommendationState(model.getMetamodel());
-            this.checkForNameAfterType(textState, textStateStrategy, word, model, recommendationState);
-            this.checkForNameBeforeType(textState, textStateStrategy, word, model, recommendationState);
-            this.checkForNortBeforeType(textState, textStateStrategy, word, model, recommendationState);
-            this.checkForNortAfterType(textState, textStateStrategy, word, model, recommendationState);
+            this.checkForNameAfterType(textState, textStateStrategy, word, model, typeIdentifiers, recommendationState);
+            this.checkForNameBeforeType(textState, textStateStrategy, word, model, typeIdentifiers, recommendationState);
+            this.checkForNortBeforeType(textState, textStateStrategy, word, model, typeIdentifiers, recommendationState);
+            this.checkForNortAfterType(textState, textStateStrategy, word, model, typeIdentifiers, recommendationState);
         }
     }
 
@@ -75,14 +80,14 @@ private void exec(TextState textState, TextStateStrategy textStateStrategy, Mode
      * case a recommendation for the combination of both is created.
      */
     private void checkForNameBeforeType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
         var preWord = word.getPreWord();
 
-        var similarTypes = CommonUtilities.getSimilarTypes(word, model);
+        var similarTypes = typeIdentifiers.getSimilarTypes(word);
 
         if (!similarTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
@@ -102,17 +107,18 @@ private void checkForNameBeforeType(TextState textExtractionState, TextStateStra
      * @param textExtractionState text extraction state
      * @param word                the current word
      * @param model               the current model state
+     * @param typeIdentifiers     the type identifiers of the current model
      * @param recommendationState the current recommendation state
      */
     private void checkForNameAfterType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
         var after = word.getNextWord();
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, model);
+        var sameLemmaTypes = typeIdentifiers.getSimilarTypes(word);
         if (!sameLemmaTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
 
@@ -129,14 +135,14 @@ private void checkForNameAfterType(TextState textExtractionState, TextStateStrat
      * the case a recommendation for the combination of both is created.
      */
     private void checkForNortBeforeType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
         var preWord = word.getPreWord();
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, model);
+        var sameLemmaTypes = typeIdentifiers.getSimilarTypes(word);
 
         if (!sameLemmaTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
@@ -154,14 +160,14 @@ private void checkForNortBeforeType(TextState textExtractionState, TextStateStra
      * that's the case a recommendation for the combination of both is created.
      */
     private void checkForNortAfterType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
         var after = word.getNextWord();
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, model);
+        var sameLemmaTypes = typeIdentifiers.getSimilarTypes(word);
         if (!sameLemmaTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
 
@@ -3,9 +3,17 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,13 +28,34 @@
  * After the extraction of structural elements, the CommentExtractor is called
  * to extract comments from the file and added to the
  * ElementStorageRegistry.
+ * If more than one thread is set, the files are lexed and parsed in parallel,
+ * each with its own lexer and parser. The elements and comments are still
+ * extracted from the parse trees one file after another in the order of the
+ * files, so the result does not depend on the number of threads.
  */
 public abstract class ElementExtractor {
+    // number of parsed files per thread that may wait for their elements to be extracted
+    private static final int PARSED_FILES_PER_THREAD = 2;
+
     protected CommentExtractor commentExtractor;
     protected final Logger logger = LoggerFactory.getLogger(ElementExtractor.class);
+    private int threads = 1;
 
     public abstract ElementStorageRegistry getElements();
 
+    /**
+     * Sets the number of threads used to lex and parse the files. The default is one thread, i.e., no parallel parsing.
+     * 
+     * @param threads the number of threads, must be positive
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be positive");
+        }
+        this.threads = threads;
+    }
+
     /**
      * Extracts elements from the given directory
      * 
@@ -34,9 +63,13 @@ public abstract class ElementExtractor {
      */
     public void extract(String directoryPath) {
         List<Path> files = getFiles(directoryPath);
-        for (Path file : files) {
-            extractContent(file);
+        if (threads == 1 || files.size() < 2) {
+            for (Path file : files) {
+                extractContent(file);
+            }
+            return;
         }
+        extractInParallel(files);
     }
 
     /**
@@ -45,17 +78,72 @@ public void extract(String directoryPath) {
      * @param file, the path of the file
      */
     protected void extractContent(Path file) {
+        ParsedFile parsedFile = parseFile(file);
+        if (parsedFile != null) {
+            extractContent(parsedFile);
+        }
+    }
+
+    /**
+     * Parses the files on a pool of worker threads and extracts their content in the order of the files. Only a bounded number of parse trees wait for
+     * extraction at any time.
+     */
+    private void extractInParallel(List<Path> files) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Deque<CompletableFuture<ParsedFile>> pendingFiles = new ArrayDeque<>();
+            Iterator<Path> remainingFiles = files.iterator();
+            while (remainingFiles.hasNext() || !pendingFiles.isEmpty()) {
+                while (remainingFiles.hasNext() && pendingFiles.size() < threads * PARSED_FILES_PER_THREAD) {
+                    Path file = remainingFiles.next();
+                    pendingFiles.add(CompletableFuture.supplyAsync(() -> parseFile(file), executor));
+                }
+                ParsedFile parsedFile = join(pendingFiles.removeFirst());
+                if (parsedFile != null) {
+                    extractContent(parsedFile);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ParsedFile parseFile(Path file) {
         CommonTokenStream tokens;
         try {
             tokens = buildTokens(file);
         } catch (IOException e) {
             logger.error("I/O operation failed", e);
-            return;
+            return null;
         }
-        extractElements(tokens);
-        extractComments(file, tokens);
+        return new ParsedFile(file, tokens, parse(tokens));
+    }
+
+    private void extractContent(ParsedFile parsedFile) {
+        extractElements(parsedFile.context());
+        extractComments(parsedFile.file(), parsedFile.tokens());
+    }
+
+    private static ParsedFile join(CompletableFuture<ParsedFile> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Parsing of a file failed", e.getCause());
+        }
+    }
+
+    private record ParsedFile(Path file, CommonTokenStream tokens, ParserRuleContext context) {
     }
 
+    /**
+     * Clears the DFA cache that ANTLR shares between all lexers and parsers of the language. The cache speeds up parsing, but grows with every parsed file.
+     * Must not be called while files of the language are parsed.
+     */
+    public abstract void clearDfaCache();
+
     /**
      * Extracts comments from the given file, using the given token stream
      * 
@@ -84,10 +172,27 @@ protected void extractComments(Path file, CommonTokenStream tokens) {
      */
     protected abstract CommonTokenStream buildTokens(Path file) throws IOException;
 
+    /**
+     * Parses the given token stream
+     * 
+     * @param tokens, the token stream generated by the ANTLR lexer
+     * @return the parse tree of the file
+     */
+    protected abstract ParserRuleContext parse(CommonTokenStream tokens);
+
     /**
      * Extracts structural elements from the given token stream
      * 
-     * @param tokens, the token stream generated by the ANTLR parser
+     * @param tokens, the token stream generated by the ANTLR lexer
+     */
+    public void extractElements(CommonTokenStream tokens) {
+        extractElements(parse(tokens));
+    }
+
+    /**
+     * Extracts structural elements from the given parse tree
+     * 
+     * @param context, the parse tree created by {@link #parse(CommonTokenStream)}
      */
-    protected abstract void extractElements(CommonTokenStream tokens);
+    protected abstract void extractElements(ParserRuleContext context);
 }
@@ -10,6 +10,7 @@
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
 
 import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.cpp.CPP14Lexer;
 import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.cpp.CPP14Parser;
@@ -70,13 +71,24 @@ protected List<Path> getFiles(String directoryPath) {
     }
 
     @Override
-    public void extractElements(CommonTokenStream tokens) {
-        TranslationUnitContext ctx = buildContext(tokens);
+    protected TranslationUnitContext parse(CommonTokenStream tokens) {
+        return buildContext(tokens);
+    }
+
+    @Override
+    protected void extractElements(ParserRuleContext context) {
+        TranslationUnitContext ctx = (TranslationUnitContext) context;
 
         visitTranslationUnit(ctx);
         addFile(ctx);
     }
 
+    @Override
+    public void clearDfaCache() {
+        new CPP14Lexer(null).getInterpreter().clearDFA();
+        new CPP14Parser(null).getInterpreter().clearDFA();
+    }
+
     private TranslationUnitContext buildContext(CommonTokenStream tokenStream) {
         CPP14Parser parser = new CPP14Parser(tokenStream);
         return parser.translationUnit();
@@ -10,6 +10,7 @@
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
 
 import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.java.JavaLexer;
 import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.java.JavaParser;
@@ -71,12 +72,23 @@ protected CommonTokenStream buildTokens(Path file) throws IOException {
     }
 
     @Override
-    public void extractElements(CommonTokenStream tokens) {
-        CompilationUnitContext ctx = buildContext(tokens);
+    protected CompilationUnitContext parse(CommonTokenStream tokens) {
+        return buildContext(tokens);
+    }
+
+    @Override
+    protected void extractElements(ParserRuleContext context) {
+        CompilationUnitContext ctx = (CompilationUnitContext) context;
         visitCompilationUnit(ctx);
 
     }
 
+    @Override
+    public void clearDfaCache() {
+        new JavaLexer(null).getInterpreter().clearDFA();
+        new JavaParser(null).getInterpreter().clearDFA();
+    }
+
     private CompilationUnitContext buildContext(CommonTokenStream tokenStream) {
         JavaParser parser = new JavaParser(tokenStream);
         return parser.compilationUnit();
@@ -13,9 +13,22 @@
 public class JavaExtractor extends AntlrExtractor {
 
     public JavaExtractor(CodeItemRepository repository, String path) {
+        this(repository, path, 1);
+    }
+
+    /**
+     * Creates an extractor that lexes and parses the files of the directory with the given number of threads.
+     *
+     * @param repository the repository of the code items
+     * @param path       the path of the directory
+     * @param threads    the number of threads, must be positive
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public JavaExtractor(CodeItemRepository repository, String path, int threads) {
         super(repository, path, ProgrammingLanguage.JAVA);
         JavaElementStorageRegistry elementManager = new JavaElementStorageRegistry();
         this.mapper = new JavaModelMapper(repository, elementManager);
         this.elementExtractor = new JavaElementExtractor(elementManager);
+        this.elementExtractor.setThreads(threads);
     }
 }
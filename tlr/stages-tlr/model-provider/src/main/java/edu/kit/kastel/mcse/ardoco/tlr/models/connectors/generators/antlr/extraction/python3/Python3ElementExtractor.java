@@ -10,6 +10,7 @@
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
 
 import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.python3.Python3Lexer;
 import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.python3.Python3Parser;
@@ -72,12 +73,23 @@ protected CommonTokenStream buildTokens(Path file) throws IOException {
     }
 
     @Override
-    public void extractElements(CommonTokenStream tokens) {
-        File_inputContext ctx = buildContext(tokens);
+    protected File_inputContext parse(CommonTokenStream tokens) {
+        return buildContext(tokens);
+    }
+
+    @Override
+    protected void extractElements(ParserRuleContext context) {
+        File_inputContext ctx = (File_inputContext) context;
         visitFile_input(ctx);
         addModules(ctx);
     }
 
+    @Override
+    public void clearDfaCache() {
+        new Python3Lexer(null).getInterpreter().clearDFA();
+        new Python3Parser(null).getInterpreter().clearDFA();
+    }
+
     private File_inputContext buildContext(CommonTokenStream tokenStream) {
         Python3Parser parser = new Python3Parser(tokenStream);
         return parser.file_input();
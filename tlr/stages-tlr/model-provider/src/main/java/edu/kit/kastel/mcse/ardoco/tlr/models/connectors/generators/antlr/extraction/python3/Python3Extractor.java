@@ -13,10 +13,23 @@
 public class Python3Extractor extends AntlrExtractor {
 
     public Python3Extractor(CodeItemRepository repository, String path) {
+        this(repository, path, 1);
+    }
+
+    /**
+     * Creates an extractor that lexes and parses the files of the directory with the given number of threads.
+     *
+     * @param repository the repository of the code items
+     * @param path       the path of the directory
+     * @param threads    the number of threads, must be positive
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public Python3Extractor(CodeItemRepository repository, String path, int threads) {
         super(repository, path, ProgrammingLanguage.PYTHON3);
         Python3ElementStorageRegistry elementManager = new Python3ElementStorageRegistry();
         this.mapper = new Python3ModelMapper(repository, elementManager);
         this.elementExtractor = new Python3ElementExtractor(elementManager);
+        this.elementExtractor.setThreads(threads);
     }
 
 }
@@ -3,8 +3,9 @@
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
@@ -21,21 +22,26 @@
 @Deterministic
 public final class AllLanguagesExtractor extends CodeExtractor {
 
-    private final Map<ProgrammingLanguage, CodeExtractor> codeExtractors;
+    private final SortedMap<ProgrammingLanguage, CodeExtractor> codeExtractors;
     private CodeModel codeModel;
 
     public AllLanguagesExtractor(CodeItemRepository codeItemRepository, String path, Metamodel metamodelToExtract) {
         super(codeItemRepository, path, metamodelToExtract);
-        this.codeExtractors = Map.of(ProgrammingLanguage.JAVA, new JavaExtractor(codeItemRepository, path, metamodelToExtract), ProgrammingLanguage.SHELL,
-                new ShellExtractor(codeItemRepository, path, metamodelToExtract));
+        this.codeExtractors = new TreeMap<>();
+        this.codeExtractors.put(ProgrammingLanguage.JAVA, new JavaExtractor(codeItemRepository, path, metamodelToExtract));
+        this.codeExtractors.put(ProgrammingLanguage.SHELL, new ShellExtractor(codeItemRepository, path, metamodelToExtract));
     }
 
     @Override
     public synchronized CodeModel extractModel() {
 
         if (this.codeModel == null) {
+            // Classify the directory once for all languages
+            ClassifiedCodeFiles classifiedCodeFiles = getClassifiedCodeFiles();
+            // Code items get their identifiers on creation, so the extractors run one after another in a fixed order
             List<CodeModel> models = new ArrayList<>();
             for (CodeExtractor extractor : this.codeExtractors.values()) {
+                extractor.useClassifiedCodeFiles(classifiedCodeFiles);
                 var model = extractor.extractModel();
                 models.add(model);
             }
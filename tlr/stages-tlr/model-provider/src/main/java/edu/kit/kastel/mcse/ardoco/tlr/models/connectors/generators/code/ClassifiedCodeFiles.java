@@ -0,0 +1,164 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CacheFiles;
+import edu.kit.kastel.mcse.ardoco.magika.FileTypePredictor;
+
+/**
+ * The files of a code directory together with their predicted file type labels. The directory is scanned and classified once, so that several
+ * {@link CodeExtractor CodeExtractors} can select their files from the same classification.
+ */
+@Deterministic
+public final class ClassifiedCodeFiles {
+    private static final Logger logger = LoggerFactory.getLogger(ClassifiedCodeFiles.class);
+
+    /**
+     * Labels of extensions that are only used for one file type. Files with these extensions are not classified by the predictor. Each label must be the
+     * label the predictor returns for such files, e.g., Magika labels Java sources "java", so the extractors select the same files with and without this
+     * shortcut. Only add extensions of file types that an extractor selects by their label.
+     */
+    private static final Map<String, String> EXTENSION_LABELS = Map.of("java", "java");
+
+    private final Path directory;
+    private final SortedMap<Path, String> labels;
+
+    private ClassifiedCodeFiles(Path directory, SortedMap<Path, String> labels) {
+        this.directory = directory;
+        this.labels = Collections.unmodifiableSortedMap(labels);
+    }
+
+    /**
+     * Classifies all files in the given directory and its subdirectories. Files with an unambiguous extension are labeled by their extension. The other files
+     * are looked up in the {@link FileTypeClassificationCache} if one is configured, and are only classified by the predictor if they are new or have
+     * changed.
+     *
+     * @param fileTypePredictor the predictor used to classify the files
+     * @param directory         the code directory
+     * @return the classified files
+     */
+    public static ClassifiedCodeFiles classify(FileTypePredictor fileTypePredictor, Path directory) {
+        Path normalizedDirectory = directory.toAbsolutePath().normalize();
+        return classify(fileTypePredictor, normalizedDirectory, FileTypeClassificationCache.openConfigured(normalizedDirectory).orElse(null));
+    }
+
+    /**
+     * Classifies all files in the given directory and its subdirectories like {@link #classify(FileTypePredictor, Path)}, using the given cache.
+     *
+     * @param fileTypePredictor the predictor used to classify the files
+     * @param directory         the code directory
+     * @param cache             the cache of the code directory, or null to classify all files that have no unambiguous extension
+     * @return the classified files
+     */
+    public static ClassifiedCodeFiles classify(FileTypePredictor fileTypePredictor, Path directory, FileTypeClassificationCache cache) {
+        Path normalizedDirectory = directory.toAbsolutePath().normalize();
+        SortedMap<Path, String> labels = new TreeMap<>();
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(normalizedDirectory)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        List<String> relativePaths = new ArrayList<>();
+        int filesWithoutKnownExtension = 0;
+        for (Path file : files) {
+            String relativePath = normalizedDirectory.relativize(file).toString();
+            relativePaths.add(relativePath);
+            String label = EXTENSION_LABELS.get(FilenameUtils.getExtension(file.getFileName().toString()));
+            if (label == null) {
+                try {
+                    label = classify(fileTypePredictor, file, relativePath, cache);
+                    filesWithoutKnownExtension++;
+                } catch (IOException e) {
+                    logger.warn("Could not classify file {}", file, e);
+                    continue;
+                }
+            }
+            labels.put(file, label);
+        }
+        if (cache != null) {
+            cache.retain(relativePaths);
+            cache.save();
+        }
+        logger.debug("# Files classified in {}: {}, # without unambiguous extension: {}", normalizedDirectory, labels.size(), filesWithoutKnownExtension);
+        return new ClassifiedCodeFiles(normalizedDirectory, labels);
+    }
+
+    private static String classify(FileTypePredictor fileTypePredictor, Path file, String relativePath, FileTypeClassificationCache cache)
+            throws IOException {
+        if (cache == null) {
+            return fileTypePredictor.predictBytes(Files.readAllBytes(file)).label();
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Optional<String> cachedLabel = cache.getLabel(relativePath, size, lastModified);
+        if (cachedLabel.isPresent()) {
+            return cachedLabel.get();
+        }
+        byte[] content = Files.readAllBytes(file);
+        String contentHash = CacheFiles.hash(content);
+        cachedLabel = cache.getLabel(relativePath, size, lastModified, contentHash);
+        if (cachedLabel.isPresent()) {
+            return cachedLabel.get();
+        }
+        String label = fileTypePredictor.predictBytes(content).label();
+        cache.put(relativePath, size, lastModified, contentHash, label);
+        return label;
+    }
+
+    /**
+     * Returns the absolute, normalized path of the classified directory.
+     *
+     * @return the classified directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the absolute, normalized paths of all files with the given label, in path order.
+     *
+     * @param label the file type label, e.g., "java"
+     * @return the files with the given label
+     */
+    public SortedSet<Path> getFiles(String label) {
+        SortedSet<Path> files = new TreeSet<>();
+        for (var entry : labels.entrySet()) {
+            if (entry.getValue().equals(label)) {
+                files.add(entry.getKey());
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Returns whether the given file was classified with the given label.
+     *
+     * @param file  the file
+     * @param label the file type label
+     * @return true, if the file has the given label
+     */
+    public boolean hasLabel(Path file, String label) {
+        return label.equals(labels.get(file.toAbsolutePath().normalize()));
+    }
+}
@@ -5,6 +5,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +29,7 @@ public abstract class CodeExtractor extends Extractor {
 
     private static final String CODE_MODEL_FILE_NAME = "codeModel.acm";
     protected final CodeItemRepository codeItemRepository;
+    private ClassifiedCodeFiles classifiedCodeFiles;
 
     protected CodeExtractor(CodeItemRepository codeItemRepository, String path, Metamodel metamodelToExtract) {
         super(path, metamodelToExtract);
@@ -37,6 +39,28 @@ protected CodeExtractor(CodeItemRepository codeItemRepository, String path, Meta
     @Override
     public abstract CodeModel extractModel();
 
+    /**
+     * Returns the classified files of the code directory. If no classification has been shared with this extractor, the directory is classified on first
+     * access.
+     *
+     * @return the classified files of the code directory
+     */
+    public synchronized ClassifiedCodeFiles getClassifiedCodeFiles() {
+        if (classifiedCodeFiles == null) {
+            classifiedCodeFiles = ClassifiedCodeFiles.classify(fileTypePredictor, Path.of(path));
+        }
+        return classifiedCodeFiles;
+    }
+
+    /**
+     * Lets this extractor use an existing classification of the code directory instead of classifying the directory on its own.
+     *
+     * @param classifiedCodeFiles the classified files of the code directory
+     */
+    synchronized void useClassifiedCodeFiles(ClassifiedCodeFiles classifiedCodeFiles) {
+        this.classifiedCodeFiles = classifiedCodeFiles;
+    }
+
     public void writeOutCodeModel(CodeModel codeModel, File outputFile) {
         ObjectMapper objectMapper = createObjectMapper();
         objectMapper.registerModule(new Jdk8Module());
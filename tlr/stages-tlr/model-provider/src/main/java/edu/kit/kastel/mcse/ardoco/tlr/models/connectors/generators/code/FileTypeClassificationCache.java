@@ -0,0 +1,168 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.JsonHandling;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CacheFiles;
+import edu.kit.kastel.mcse.ardoco.core.common.util.Environment;
+
+/**
+ * Persistent cache of the predicted file types of the files in a code directory. Entries are keyed by the path of the file relative to the code directory and
+ * remember the size, the modification time and the SHA-256 hash of the content the label was predicted for. A file whose size and modification time are
+ * unchanged is not read again; a file whose content hash is unchanged is not classified again. The entries of a code directory are stored in one JSON file in
+ * the cache directory, named after the hash of the absolute path of the code directory. The file is written atomically with {@link CacheFiles}, so concurrent
+ * runs never read a partially written file. An unreadable file is treated as an empty cache.
+ */
+@Deterministic
+public final class FileTypeClassificationCache {
+
+    // increment if the format of the entries or the predictor changes
+    private static final String FORMAT_VERSION = "1";
+    private static final String FILE_SUFFIX = "-file-types.json";
+    private static final String CACHE_DIRECTORY_ENVIRONMENT_VARIABLE = "CODE_CLASSIFICATION_CACHE_DIR";
+
+    private static final Logger logger = LoggerFactory.getLogger(FileTypeClassificationCache.class);
+
+    private final Path cacheFile;
+    private final SortedMap<String, Entry> entries;
+    private boolean modified;
+
+    private FileTypeClassificationCache(Path cacheFile, SortedMap<String, Entry> entries) {
+        this.cacheFile = cacheFile;
+        this.entries = entries;
+    }
+
+    /**
+     * Opens the cache of the given code directory in the directory configured by the environment variable {@value CACHE_DIRECTORY_ENVIRONMENT_VARIABLE}. The
+     * cache of annotated texts has its own configuration, so the caches can be enabled independently.
+     *
+     * @param codeDirectory the code directory
+     * @return the cache, or an empty optional if no cache directory is configured
+     */
+    public static Optional<FileTypeClassificationCache> openConfigured(Path codeDirectory) {
+        String cacheDirectory = Environment.getEnv(CACHE_DIRECTORY_ENVIRONMENT_VARIABLE);
+        if (cacheDirectory == null || cacheDirectory.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(open(Path.of(cacheDirectory.trim()), codeDirectory));
+    }
+
+    /**
+     * Opens the cache of the given code directory in the given cache directory. The cache directory is created when the cache is first saved.
+     *
+     * @param cacheDirectory the cache directory
+     * @param codeDirectory  the code directory
+     * @return the cache
+     */
+    public static FileTypeClassificationCache open(Path cacheDirectory, Path codeDirectory) {
+        String codeDirectoryName = codeDirectory.toAbsolutePath().normalize().toString();
+        String cacheFileName = CacheFiles.hash(FORMAT_VERSION, codeDirectoryName) + FILE_SUFFIX;
+        Path cacheFile = Objects.requireNonNull(cacheDirectory).resolve(cacheFileName);
+        SortedMap<String, Entry> entries = new TreeMap<>();
+        if (Files.isRegularFile(cacheFile)) {
+            try {
+                entries.putAll(JsonHandling.createObjectMapper().readValue(cacheFile.toFile(), new TypeReference<SortedMap<String, Entry>>() {
+                }));
+            } catch (IOException e) {
+                logger.warn("Could not read file type cache {}. Ignoring it.", cacheFile, e);
+            }
+        }
+        return new FileTypeClassificationCache(cacheFile, entries);
+    }
+
+    /**
+     * Returns the cached label of the file if the size and the modification time of the file are unchanged.
+     *
+     * @param relativePath the path of the file relative to the code directory
+     * @param size         the current size of the file
+     * @param lastModified the current modification time of the file in milliseconds
+     * @return the cached label, or an empty optional if the file might have changed
+     */
+    public Optional<String> getLabel(String relativePath, long size, long lastModified) {
+        Entry entry = entries.get(relativePath);
+        if (entry == null || entry.size() != size || entry.lastModified() != lastModified) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.label());
+    }
+
+    /**
+     * Returns the cached label of the file if the content of the file is unchanged. On a hit, the size and the modification time of the entry are updated.
+     *
+     * @param relativePath the path of the file relative to the code directory
+     * @param size         the current size of the file
+     * @param lastModified the current modification time of the file in milliseconds
+     * @param contentHash  the hash of the current content of the file, see {@link CacheFiles#hash(byte[])}
+     * @return the cached label, or an empty optional if the content has changed
+     */
+    public Optional<String> getLabel(String relativePath, long size, long lastModified, String contentHash) {
+        Entry entry = entries.get(relativePath);
+        if (entry == null || !entry.contentHash().equals(contentHash)) {
+            return Optional.empty();
+        }
+        put(relativePath, size, lastModified, contentHash, entry.label());
+        return Optional.of(entry.label());
+    }
+
+    /**
+     * Stores the label of the file.
+     *
+     * @param relativePath the path of the file relative to the code directory
+     * @param size         the size of the file
+     * @param lastModified the modification time of the file in milliseconds
+     * @param contentHash  the hash of the content of the file, see {@link CacheFiles#hash(byte[])}
+     * @param label        the predicted label
+     */
+    public void put(String relativePath, long size, long lastModified, String contentHash, String label) {
+        Entry entry = new Entry(size, lastModified, contentHash, label);
+        if (!entry.equals(entries.put(relativePath, entry))) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Removes the entries of all files that are not among the given files, e.g., because they have been deleted.
+     *
+     * @param relativePaths the paths of the files to keep, relative to the code directory
+     */
+    public void retain(Collection<String> relativePaths) {
+        if (entries.keySet().retainAll(relativePaths)) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Writes the cache if it has been modified. Failures are logged and do not affect the caller.
+     */
+    public void save() {
+        if (!modified) {
+            return;
+        }
+        try {
+            CacheFiles.writeAtomically(cacheFile, file -> JsonHandling.createObjectMapper().writeValue(file.toFile(), entries));
+            modified = false;
+            logger.debug("Stored {} file types in cache {}", entries.size(), cacheFile);
+        } catch (IOException e) {
+            logger.warn("Could not store file type cache {}.", cacheFile, e);
+        }
+    }
+
+    record Entry(@JsonProperty("size") long size, @JsonProperty("lastModified") long lastModified, @JsonProperty("contentHash") String contentHash,
+                 @JsonProperty("label") String label) {
+    }
+}
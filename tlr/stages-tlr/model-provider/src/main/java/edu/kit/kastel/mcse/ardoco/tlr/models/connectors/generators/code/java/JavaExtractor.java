@@ -6,8 +6,6 @@
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.JavaCore;
@@ -54,29 +52,31 @@ public JavaExtractor(CodeItemRepository codeItemRepository, String path, Metamod
     public synchronized CodeModel extractModel() {
         if (codeModel == null) {
             Path directoryPath = Path.of(path);
-            SortedMap<String, CompilationUnit> compUnitMap = parseDirectory(directoryPath);
-            JavaModel javaModel = new JavaModel(codeItemRepository, compUnitMap);
+            JavaModel javaModel = new JavaModel(codeItemRepository);
+            parseDirectory(directoryPath, getJavaFiles(), javaModel);
+            javaModel.completeModel();
             this.codeModel = javaModel.getCodeModel(metamodelToExtract);
         }
         return this.codeModel;
     }
 
-    private static SortedMap<String, CompilationUnit> parseDirectory(Path dir) {
+    /**
+     * Parses all Java files of the directory and adds each compilation unit to the model as soon as it has been parsed. The parser does not keep the
+     * compilation units, so only the ASTs that are currently being processed are kept in memory.
+     */
+    private static void parseDirectory(Path dir, String[] sources, JavaModel javaModel) {
         ASTParser parser = getJavaParser();
-        final String[] sources = getJavaFiles(dir);
         final String[] encodings = new String[sources.length];
         Arrays.fill(encodings, StandardCharsets.UTF_8.toString());
-        final SortedMap<String, CompilationUnit> compilationUnits = new TreeMap<>();
         parser.setEnvironment(new String[0], new String[0], new String[0], false);
         parser.createASTs(sources, encodings, new String[0], new FileASTRequestor() {
             @Override
             public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
                 URI sourceFileUri = Path.of(sourceFilePath).toUri();
                 String relativeSourceFilePath = dir.toUri().relativize(sourceFileUri).toString();
-                compilationUnits.put(relativeSourceFilePath, ast);
+                javaModel.addCompilationUnit(relativeSourceFilePath, ast);
             }
         }, new NullProgressMonitor());
-        return compilationUnits;
     }
 
     private static ASTParser getJavaParser() {
@@ -89,17 +89,8 @@ private static ASTParser getJavaParser() {
         return parser;
     }
 
-    private static String[] getJavaFiles(Path dir) {
-        var predictions = fileTypePredictor.predictFileTypesFromFolderRecursively(dir);
-
-        var javaFiles = predictions.entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().label().equals("java"))
-                .map(Map.Entry::getKey)
-                .map(Path::toAbsolutePath)
-                .map(Path::normalize)
-                .map(Path::toString)
-                .toArray(String[]::new);
+    private String[] getJavaFiles() {
+        var javaFiles = getClassifiedCodeFiles().getFiles("java").stream().map(Path::toString).toArray(String[]::new);
 
         logger.debug("# Java files found: {}", javaFiles.length);
         return javaFiles;
@@ -3,6 +3,7 @@
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Function;
 
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.jdt.core.dom.*;
@@ -23,21 +24,39 @@ public final class JavaModel {
 
     private final CodeItemRepository codeItemRepository;
     private final SortedSet<CodeItem> content;
+    private final SortedSet<CodePackage> codePackages;
     private final Set<JavaType> javaTypes;
     private final Set<JavaClassifier> javaClassifiers;
     private final Set<JavaInterface> javaInterfaces;
     private CodeModelWithCompilationUnits codeModel;
 
     public JavaModel(CodeItemRepository codeItemRepository, SortedMap<String, CompilationUnit> compUnitMap) {
+        this(codeItemRepository);
+        for (var entry : compUnitMap.entrySet()) {
+            addCompilationUnit(entry.getKey(), entry.getValue());
+        }
+        completeModel();
+    }
+
+    /**
+     * Creates an empty model. Compilation units are added one by one with {@link #addCompilationUnit(String, CompilationUnit)}, and relationships between
+     * types are resolved by {@link #completeModel()} once all compilation units have been added.
+     *
+     * @param codeItemRepository the code item repository
+     */
+    JavaModel(CodeItemRepository codeItemRepository) {
         this.codeItemRepository = codeItemRepository;
         this.content = new TreeSet<>();
+        this.codePackages = new TreeSet<>();
         javaTypes = new LinkedHashSet<>();
         javaClassifiers = new LinkedHashSet<>();
         javaInterfaces = new LinkedHashSet<>();
-        initModel(compUnitMap);
     }
 
     public CodeModel getCodeModel(Metamodel representation) {
+        if (codeModel == null) {
+            throw new IllegalStateException("The model has not been completed");
+        }
         return switch (representation) {
             case CODE_WITH_COMPILATION_UNITS_AND_PACKAGES -> new CodeModelWithCompilationUnitsAndPackages(codeItemRepository, content);
             case CODE_WITH_COMPILATION_UNITS -> codeModel;
@@ -51,7 +70,7 @@ private void addType(Datatype codeType, AbstractTypeDeclaration abstractTypeDecl
         if (null == binding) {
             return;
         }
-        javaTypes.add(new JavaType(codeType, binding, getReferencedBindings(abstractTypeDeclaration)));
+        javaTypes.add(new JavaType(codeType, getKey(binding), getReferencedKeys(abstractTypeDeclaration)));
     }
 
     private void addClassifier(ClassUnit codeClassifier, AbstractTypeDeclaration abstractTypeDeclaration) {
@@ -59,7 +78,9 @@ private void addClassifier(ClassUnit codeClassifier, AbstractTypeDeclaration abs
         if (null == binding) {
             return;
         }
-        javaClassifiers.add(new JavaClassifier(codeClassifier, binding));
+        ITypeBinding superclassBinding = binding.getSuperclass();
+        String superclassKey = null == superclassBinding ? null : getKey(superclassBinding);
+        javaClassifiers.add(new JavaClassifier(codeClassifier, getKey(binding), superclassKey, getKeys(binding.getInterfaces())));
         addType(codeClassifier, abstractTypeDeclaration);
     }
 
@@ -68,30 +89,56 @@ private void addInterface(InterfaceUnit codeInterface, TypeDeclaration typeDecla
         if (null == binding) {
             return;
         }
-        javaInterfaces.add(new JavaInterface(codeInterface, binding));
+        javaInterfaces.add(new JavaInterface(codeInterface, getKey(binding), getKeys(binding.getInterfaces())));
         addType(codeInterface, typeDeclaration);
     }
 
-    private record JavaType(Datatype codeType, ITypeBinding binding, List<ITypeBinding> referencedBindings) {
+    /**
+     * Types only keep the keys of the bindings they refer to. Bindings reference the AST they were resolved from, so keeping them would keep all compilation
+     * units in memory until the model is completed.
+     */
+    private record JavaType(Datatype codeType, String key, List<String> referencedKeys) {
     }
 
-    private record JavaClassifier(ClassUnit codeClassifier, ITypeBinding binding) {
+    private record JavaClassifier(ClassUnit codeClassifier, String key, String superclassKey, List<String> interfaceKeys) {
     }
 
-    private record JavaInterface(InterfaceUnit codeInterface, ITypeBinding binding) {
+    private record JavaInterface(InterfaceUnit codeInterface, String key, List<String> extendedInterfaceKeys) {
     }
 
     //
 
-    private void initImplementedInterfaces() {
+    private static String getKey(ITypeBinding binding) {
+        return binding.getErasure().getKey();
+    }
+
+    private static List<String> getKeys(ITypeBinding[] bindings) {
+        return Arrays.stream(bindings).map(JavaModel::getKey).toList();
+    }
+
+    /**
+     * Indexes the given types by their binding key. If several types have the same key, the first one is indexed.
+     */
+    private static <T> Map<String, T> indexByKey(Collection<T> types, Function<T, String> keyOf) {
+        Map<String, T> index = new LinkedHashMap<>();
+        for (T type : types) {
+            String key = keyOf.apply(type);
+            if (null != key) {
+                index.putIfAbsent(key, type);
+            }
+        }
+        return index;
+    }
+
+    private static <T> Optional<T> findByKey(Map<String, T> index, String key) {
+        return Optional.ofNullable(index.get(key));
+    }
+
+    private void initImplementedInterfaces(Map<String, JavaInterface> interfacesByKey) {
         for (JavaClassifier javaClassifier : javaClassifiers) {
-            ITypeBinding binding = javaClassifier.binding();
-            ITypeBinding[] implInterfacesBindings = binding.getInterfaces();
-            List<JavaInterface> javaImplInterfaces = Arrays.stream(implInterfacesBindings)
-                    .map(implInterfaceBinding -> javaInterfaces.stream()
-                            .filter(javaInterface -> javaInterface.binding().getErasure().isEqualTo(implInterfaceBinding.getErasure()))
-                            .findFirst()
-                            .orElseThrow())
+            List<JavaInterface> javaImplInterfaces = javaClassifier.interfaceKeys()
+                    .stream()
+                    .map(implInterfaceKey -> findByKey(interfacesByKey, implInterfaceKey).orElseThrow())
                     .toList();
             SortedSet<Datatype> codeImplInterfaces = new TreeSet<>();
             for (JavaInterface javaImplInterface : javaImplInterfaces) {
@@ -101,15 +148,11 @@ private void initImplementedInterfaces() {
         }
     }
 
-    private void initExtendedInterfaces() {
+    private void initExtendedInterfaces(Map<String, JavaInterface> interfacesByKey) {
         for (JavaInterface javaInterface : javaInterfaces) {
-            ITypeBinding binding = javaInterface.binding();
-            ITypeBinding[] extendedInterfacesBindings = binding.getInterfaces();
-            List<JavaInterface> javaExtendedInterfaces = Arrays.stream(extendedInterfacesBindings)
-                    .map(extendedInterfaceBinding -> javaInterfaces.stream()
-                            .filter(otherJavaInterface -> otherJavaInterface.binding().getErasure().isEqualTo(extendedInterfaceBinding.getErasure()))
-                            .findFirst()
-                            .orElseThrow())
+            List<JavaInterface> javaExtendedInterfaces = javaInterface.extendedInterfaceKeys()
+                    .stream()
+                    .map(extendedInterfaceKey -> findByKey(interfacesByKey, extendedInterfaceKey).orElseThrow())
                     .toList();
             SortedSet<Datatype> codeExtendedInterfaces = new TreeSet<>();
             for (JavaInterface javaExtendedInterface : javaExtendedInterfaces) {
@@ -119,98 +162,100 @@ private void initExtendedInterfaces() {
         }
     }
 
-    private void initSuperclasses() {
+    private void initSuperclasses(Map<String, JavaClassifier> classifiersByKey) {
         for (JavaClassifier javaClassifier : javaClassifiers) {
-            ITypeBinding binding = javaClassifier.binding();
-            ITypeBinding superclassBinding = binding.getSuperclass();
-            if (null == superclassBinding) {
+            String superclassKey = javaClassifier.superclassKey();
+            if (null == superclassKey) {
                 continue;
             }
-            JavaClassifier javaSuperclass = javaClassifiers.stream()
-                    .filter(otherJavaClass -> otherJavaClass.binding().getErasure().isEqualTo(superclassBinding.getErasure()))
-                    .findFirst()
-                    .orElseThrow();
+            JavaClassifier javaSuperclass = findByKey(classifiersByKey, superclassKey).orElseThrow();
             SortedSet<Datatype> superclasses = new TreeSet<>();
             superclasses.add(javaSuperclass.codeClassifier());
             javaClassifier.codeClassifier().setExtendedTypes(superclasses);
         }
     }
 
-    private void initDependencies() {
+    private void initDependencies(Map<String, JavaType> typesByKey) {
         for (JavaType javaType : javaTypes) {
-            List<ITypeBinding> referencedBindings = javaType.referencedBindings();
             SortedSet<Datatype> dependencies = new TreeSet<>();
-            for (ITypeBinding referencedBinding : referencedBindings) {
-                javaTypes.stream()
-                        .filter(otherJavaType -> otherJavaType.binding().getErasure().isEqualTo(referencedBinding.getErasure()))
-                        .findFirst()
-                        .ifPresent(referencedJavaType -> dependencies.add(referencedJavaType.codeType()));
+            for (String referencedKey : javaType.referencedKeys()) {
+                findByKey(typesByKey, referencedKey).ifPresent(referencedJavaType -> dependencies.add(referencedJavaType.codeType()));
             }
             javaType.codeType().setDatatypeReference(dependencies);
         }
     }
 
-    private static List<ITypeBinding> getReferencedBindings(AbstractTypeDeclaration abstractTypeDeclaration) {
+    private static List<String> getReferencedKeys(AbstractTypeDeclaration abstractTypeDeclaration) {
         @SuppressWarnings("unchecked") List<BodyDeclaration> bodyDeclarations = abstractTypeDeclaration.bodyDeclarations();
         List<Type> referencedTypes = new ArrayList<>();
         for (BodyDeclaration bodyDeclaration : bodyDeclarations) {
             referencedTypes.addAll(TypeFinder.find(bodyDeclaration));
         }
-        List<ITypeBinding> referencedBindings = new ArrayList<>();
+        List<String> referencedKeys = new ArrayList<>();
         for (Type referencedType : referencedTypes) {
             ITypeBinding referencedBinding = referencedType.resolveBinding();
             if (null == referencedBinding) {
                 continue;
             }
-            referencedBindings.add(referencedBinding);
+            referencedKeys.add(getKey(referencedBinding));
         }
-        return referencedBindings;
+        return referencedKeys;
     }
 
     //
 
-    private void initModel(SortedMap<String, CompilationUnit> compUnitMap) {
-
-        SortedSet<CodePackage> codePackages = new TreeSet<>();
-        SortedSet<CodeCompilationUnit> codeCompilationUnits = new TreeSet<>();
-
-        for (var entry : compUnitMap.entrySet()) {
-            CompilationUnit compilationUnit = entry.getValue();
-            PackageDeclaration packageDeclaration = compilationUnit.getPackage();
-            Path path = Path.of(entry.getKey());
-            String fileName = path.getFileName().toString();
-            String fileNameWithoutExtension = FilenameUtils.removeExtension(fileName);
-            String extension = FilenameUtils.getExtension(fileName);
-            List<String> pathElements = new ArrayList<>();
-            for (int i = 0; i < path.getNameCount() - 1; i++) {
-                pathElements.add(path.getName(i).toString());
-            }
-            List<String> packageNames = new ArrayList<>();
-            if (null != packageDeclaration) {
-                Name fullName = packageDeclaration.getName();
-                packageNames = getPackageNames(fullName);
-            }
-            CodeCompilationUnit codeCompilationUnit = new CodeCompilationUnit(codeItemRepository, fileNameWithoutExtension, new TreeSet<>(), pathElements,
-                    extension, ProgrammingLanguage.JAVA);
-            codeCompilationUnits.add(codeCompilationUnit);
-            if (null != packageDeclaration) {
-                CodePackage codePackage = getPackage(packageNames, codeCompilationUnit);
-                codePackages.add(codePackage);
-            } else {
-                content.add(codeCompilationUnit);
-            }
-            List<Datatype> types = extractTypes(compilationUnit);
-            for (Datatype type : types) {
-                type.setCompilationUnit(codeCompilationUnit);
-            }
-            codeCompilationUnit.setContent(types);
+    /**
+     * Converts a compilation unit into code items. The model keeps no reference to the compilation unit, so it can be discarded afterwards.
+     *
+     * @param relativeSourceFilePath the path of the source file relative to the code directory
+     * @param compilationUnit        the compilation unit with resolved bindings
+     */
+    void addCompilationUnit(String relativeSourceFilePath, CompilationUnit compilationUnit) {
+        if (codeModel != null) {
+            throw new IllegalStateException("The model has already been completed");
+        }
+        PackageDeclaration packageDeclaration = compilationUnit.getPackage();
+        Path path = Path.of(relativeSourceFilePath);
+        String fileName = path.getFileName().toString();
+        String fileNameWithoutExtension = FilenameUtils.removeExtension(fileName);
+        String extension = FilenameUtils.getExtension(fileName);
+        List<String> pathElements = new ArrayList<>();
+        for (int i = 0; i < path.getNameCount() - 1; i++) {
+            pathElements.add(path.getName(i).toString());
         }
+        List<String> packageNames = new ArrayList<>();
+        if (null != packageDeclaration) {
+            Name fullName = packageDeclaration.getName();
+            packageNames = getPackageNames(fullName);
+        }
+        CodeCompilationUnit codeCompilationUnit = new CodeCompilationUnit(codeItemRepository, fileNameWithoutExtension, new TreeSet<>(), pathElements,
+                extension, ProgrammingLanguage.JAVA);
+        if (null != packageDeclaration) {
+            CodePackage codePackage = getPackage(packageNames, codeCompilationUnit);
+            codePackages.add(codePackage);
+        } else {
+            content.add(codeCompilationUnit);
+        }
+        List<Datatype> types = extractTypes(compilationUnit);
+        for (Datatype type : types) {
+            type.setCompilationUnit(codeCompilationUnit);
+        }
+        codeCompilationUnit.setContent(types);
+    }
 
+    /**
+     * Resolves the relationships between the types of all added compilation units and creates the code model.
+     */
+    void completeModel() {
+        if (codeModel != null) {
+            throw new IllegalStateException("The model has already been completed");
+        }
         Set<CodePackage> mergedCodePackages = mergePackages(codePackages);
-        initImplementedInterfaces();
-        initExtendedInterfaces();
-        initSuperclasses();
-        initDependencies();
+        Map<String, JavaInterface> interfacesByKey = indexByKey(javaInterfaces, JavaInterface::key);
+        initImplementedInterfaces(interfacesByKey);
+        initExtendedInterfaces(interfacesByKey);
+        initSuperclasses(indexByKey(javaClassifiers, JavaClassifier::key));
+        initDependencies(indexByKey(javaTypes, JavaType::key));
 
         content.addAll(mergedCodePackages);
 
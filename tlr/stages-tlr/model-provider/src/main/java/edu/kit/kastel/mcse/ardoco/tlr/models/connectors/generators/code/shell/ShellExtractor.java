@@ -30,7 +30,7 @@ public synchronized CodeModel extractModel() {
 
     private CodeModel parseCode(File file) {
         Path startingDir = Paths.get(file.toURI());
-        ShellVisitor shellScriptVisitor = new ShellVisitor(fileTypePredictor, codeItemRepository, startingDir);
+        ShellVisitor shellScriptVisitor = new ShellVisitor(getClassifiedCodeFiles(), codeItemRepository, startingDir);
         // walk all files and run the ShellScriptVisitor
         try {
             Files.walkFileTree(startingDir, shellScriptVisitor);
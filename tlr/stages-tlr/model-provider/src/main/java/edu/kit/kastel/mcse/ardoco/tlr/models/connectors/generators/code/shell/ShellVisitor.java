@@ -1,7 +1,6 @@
 /* Licensed under MIT 2023-2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.shell;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.FileVisitResult;
@@ -14,9 +13,6 @@
 import java.util.TreeSet;
 
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModelWithCompilationUnits;
@@ -24,18 +20,25 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItemRepository;
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.ProgrammingLanguage;
-import edu.kit.kastel.mcse.ardoco.magika.FileTypePredictor;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.ClassifiedCodeFiles;
 
 public class ShellVisitor implements FileVisitor<Path> {
-    private static final Logger logger = LoggerFactory.getLogger(ShellVisitor.class);
+    private static final String SHELL_LABEL = "shell";
 
     private final Path startingDir;
     private final SortedSet<CodeItem> codeEndpoints;
     private final CodeItemRepository codeItemRepository;
-    private final FileTypePredictor fileTypePredictor;
-
-    public ShellVisitor(FileTypePredictor fileTypePredictor, CodeItemRepository codeItemRepository, Path startingDir) {
-        this.fileTypePredictor = fileTypePredictor;
+    private final ClassifiedCodeFiles classifiedCodeFiles;
+
+    /**
+     * Creates a visitor that takes the file types of the visited files from the classification of the starting directory.
+     *
+     * @param classifiedCodeFiles the classified files of the starting directory
+     * @param codeItemRepository  the code item repository
+     * @param startingDir         the starting directory
+     */
+    public ShellVisitor(ClassifiedCodeFiles classifiedCodeFiles, CodeItemRepository codeItemRepository, Path startingDir) {
+        this.classifiedCodeFiles = classifiedCodeFiles;
         this.codeItemRepository = codeItemRepository;
         this.startingDir = startingDir;
         codeEndpoints = new TreeSet<>();
@@ -63,13 +66,7 @@ public FileVisitResult visitFileFailed(Path file, IOException exc) {
     @Override
     public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
         String fileName = path.getFileName().toString();
-        String code = "";
-        try (FileReader reader = new FileReader(path.toFile())) {
-            code = IOUtils.toString(reader);
-        } catch (IOException e) {
-            logger.warn("Exception when reading file", e);
-        }
-        if (!isShellFile(code)) {
+        if (!isShellFile(path)) {
             return FileVisitResult.CONTINUE;
         }
 
@@ -94,7 +91,7 @@ private CodeCompilationUnit extractShellFile(Path path, String fileNameWithoutEx
         return new CodeCompilationUnit(codeItemRepository, fileNameWithoutExtension, new TreeSet<>(), pathElements, extension, ProgrammingLanguage.SHELL);
     }
 
-    private boolean isShellFile(String code) {
-        return fileTypePredictor.predictBytes(code.getBytes()).label().equals("shell");
+    private boolean isShellFile(Path path) {
+        return classifiedCodeFiles.hasLabel(path, SHELL_LABEL);
     }
 }
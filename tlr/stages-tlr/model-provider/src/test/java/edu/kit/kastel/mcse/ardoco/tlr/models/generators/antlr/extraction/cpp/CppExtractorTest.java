@@ -1,11 +1,15 @@
 /* Licensed under MIT 2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.models.generators.antlr.extraction.cpp;
 
+import org.antlr.v4.runtime.dfa.DFA;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.cpp.CPP14Parser;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.extraction.cpp.CppElementExtractor;
 import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.extraction.cpp.CppExtractor;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.management.ElementStorageRegistry;
 import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.management.cpp.CppElementStorageRegistry;
 
 class CppExtractorTest {
@@ -23,9 +27,45 @@ void executeCppExtractorForMinimalDirectoryTest() {
         Assertions.assertEquals(5, manager.getClasses().size());
     }
 
+    @Test
+    void parallelExtractionFindsSameElementsTest() {
+        String sourcePath = "src/test/resources/cpp/interface/edu/";
+        CppExtractor sequentialExtractor = new CppExtractor(new CodeItemRepository(), sourcePath);
+        sequentialExtractor.extractModel();
+        CppExtractor parallelExtractor = new CppExtractor(new CodeItemRepository(), sourcePath, 4);
+        parallelExtractor.extractModel();
+
+        ElementStorageRegistry expected = sequentialExtractor.getElementExtractor().getElements();
+        ElementStorageRegistry actual = parallelExtractor.getElementExtractor().getElements();
+        Assertions.assertEquals(expected.getAllElements(), actual.getAllElements());
+        Assertions.assertEquals(expected.getRootIdentifiers(), actual.getRootIdentifiers());
+    }
+
+    @Test
+    void clearDfaCacheKeepsExtractedElementsTest() {
+        String sourcePath = "src/test/resources/cpp/interface/edu/";
+        CppElementExtractor extractor = new CppElementExtractor();
+        extractor.extract(sourcePath);
+        Assertions.assertTrue(countCachedDfaStates() > 0);
+
+        extractor.clearDfaCache();
+        Assertions.assertEquals(0, countCachedDfaStates());
+
+        CppElementExtractor extractorAfterClearing = new CppElementExtractor();
+        extractorAfterClearing.extract(sourcePath);
+        Assertions.assertEquals(extractor.getElements().getAllElements(), extractorAfterClearing.getElements().getAllElements());
+    }
+
     private CppExtractor buildCppExtractor(String sourcePath) {
         CodeItemRepository repository = new CodeItemRepository();
         return new CppExtractor(repository, sourcePath);
     }
 
+    private static int countCachedDfaStates() {
+        int states = 0;
+        for (DFA dfa : new CPP14Parser(null).getInterpreter().decisionToDFA) {
+            states += dfa.states.size();
+        }
+        return states;
+    }
 }
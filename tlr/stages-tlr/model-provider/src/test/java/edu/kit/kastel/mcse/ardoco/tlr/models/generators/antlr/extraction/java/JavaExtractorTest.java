@@ -1,11 +1,15 @@
 /* Licensed under MIT 2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.models.generators.antlr.extraction.java;
 
+import org.antlr.v4.runtime.dfa.DFA;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.java.JavaParser;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.extraction.java.JavaElementExtractor;
 import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.extraction.java.JavaExtractor;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.management.ElementStorageRegistry;
 import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.management.java.JavaElementStorageRegistry;
 
 class JavaExtractorTest {
@@ -26,9 +30,45 @@ void executeJavaExtractorForMinimalDirectoryTest() {
         Assertions.assertEquals(3, manager.getPackages().size());
     }
 
+    @Test
+    void parallelExtractionFindsSameElementsTest() {
+        String sourcePath = "src/test/resources/interface/edu/";
+        JavaExtractor sequentialExtractor = new JavaExtractor(new CodeItemRepository(), sourcePath);
+        sequentialExtractor.extractModel();
+        JavaExtractor parallelExtractor = new JavaExtractor(new CodeItemRepository(), sourcePath, 4);
+        parallelExtractor.extractModel();
+
+        ElementStorageRegistry expected = sequentialExtractor.getElementExtractor().getElements();
+        ElementStorageRegistry actual = parallelExtractor.getElementExtractor().getElements();
+        Assertions.assertEquals(expected.getAllElements(), actual.getAllElements());
+        Assertions.assertEquals(expected.getRootIdentifiers(), actual.getRootIdentifiers());
+    }
+
+    @Test
+    void clearDfaCacheKeepsExtractedElementsTest() {
+        String sourcePath = "src/test/resources/interface/edu/";
+        JavaElementExtractor extractor = new JavaElementExtractor();
+        extractor.extract(sourcePath);
+        Assertions.assertTrue(countCachedDfaStates() > 0);
+
+        extractor.clearDfaCache();
+        Assertions.assertEquals(0, countCachedDfaStates());
+
+        JavaElementExtractor extractorAfterClearing = new JavaElementExtractor();
+        extractorAfterClearing.extract(sourcePath);
+        Assertions.assertEquals(extractor.getElements().getAllElements(), extractorAfterClearing.getElements().getAllElements());
+    }
+
     private JavaExtractor buildJavaExtractor(String sourcePath) {
         CodeItemRepository repository = new CodeItemRepository();
         return new JavaExtractor(repository, sourcePath);
     }
 
+    private static int countCachedDfaStates() {
+        int states = 0;
+        for (DFA dfa : new JavaParser(null).getInterpreter().decisionToDFA) {
+            states += dfa.states.size();
+        }
+        return states;
+    }
 }
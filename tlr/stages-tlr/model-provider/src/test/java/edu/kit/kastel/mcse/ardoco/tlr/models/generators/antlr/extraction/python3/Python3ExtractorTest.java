@@ -1,11 +1,15 @@
 /* Licensed under MIT 2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.models.generators.antlr.extraction.python3;
 
+import org.antlr.v4.runtime.dfa.DFA;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.tlr.models.antlr4.python3.Python3Parser;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.extraction.python3.Python3ElementExtractor;
 import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.extraction.python3.Python3Extractor;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.management.ElementStorageRegistry;
 import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.antlr.management.python3.Python3ElementStorageRegistry;
 
 class Python3ExtractorTest {
@@ -24,8 +28,45 @@ void executePython3ExtractorForMinimalDirectoryTest() {
         Assertions.assertEquals(8, manager.getModules().size());
     }
 
+    @Test
+    void parallelExtractionFindsSameElementsTest() {
+        String sourcePath = "src/test/resources/python/interface/edu/";
+        Python3Extractor sequentialExtractor = new Python3Extractor(new CodeItemRepository(), sourcePath);
+        sequentialExtractor.extractModel();
+        Python3Extractor parallelExtractor = new Python3Extractor(new CodeItemRepository(), sourcePath, 4);
+        parallelExtractor.extractModel();
+
+        ElementStorageRegistry expected = sequentialExtractor.getElementExtractor().getElements();
+        ElementStorageRegistry actual = parallelExtractor.getElementExtractor().getElements();
+        Assertions.assertEquals(expected.getAllElements(), actual.getAllElements());
+        Assertions.assertEquals(expected.getRootIdentifiers(), actual.getRootIdentifiers());
+    }
+
+    @Test
+    void clearDfaCacheKeepsExtractedElementsTest() {
+        String sourcePath = "src/test/resources/python/interface/edu/";
+        Python3ElementExtractor extractor = new Python3ElementExtractor();
+        extractor.extract(sourcePath);
+        Assertions.assertTrue(countCachedDfaStates() > 0);
+
+        extractor.clearDfaCache();
+        Assertions.assertEquals(0, countCachedDfaStates());
+
+        Python3ElementExtractor extractorAfterClearing = new Python3ElementExtractor();
+        extractorAfterClearing.extract(sourcePath);
+        Assertions.assertEquals(extractor.getElements().getAllElements(), extractorAfterClearing.getElements().getAllElements());
+    }
+
     private Python3Extractor buildPython3Extractor(String sourcePath) {
         CodeItemRepository repository = new CodeItemRepository();
         return new Python3Extractor(repository, sourcePath);
     }
+
+    private static int countCachedDfaStates() {
+        int states = 0;
+        for (DFA dfa : new Python3Parser(null).getInterpreter().decisionToDFA) {
+            states += dfa.states.size();
+        }
+        return states;
+    }
 }
@@ -0,0 +1,62 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.models.generators.code;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeCompilationUnit;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItem;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.Datatype;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.AllLanguagesExtractor;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.ClassifiedCodeFiles;
+
+class AllLanguagesExtractorTest {
+
+    @TempDir
+    private Path codeDirectory;
+
+    @Test
+    void extractsJavaAndShellFilesOfOneClassification() throws IOException {
+        Path javaFile = Files.createDirectories(this.codeDirectory.resolve("edu")).resolve("AClass.java");
+        Files.writeString(javaFile, "package edu;\n\npublic class AClass {\n}\n");
+        Path shellFile = this.codeDirectory.resolve("build.sh");
+        Files.writeString(shellFile, "#!/bin/sh\nset -e\ncd \"$(dirname \"$0\")\"\nmvn -B package\n");
+
+        var extractor = new AllLanguagesExtractor(new CodeItemRepository(), this.codeDirectory.toString(), Metamodel.CODE_WITH_COMPILATION_UNITS);
+        CodeModel codeModel = extractor.extractModel();
+
+        ClassifiedCodeFiles classifiedCodeFiles = extractor.getClassifiedCodeFiles();
+        assertTrue(classifiedCodeFiles.hasLabel(javaFile, "java"));
+        assertTrue(classifiedCodeFiles.hasLabel(shellFile, "shell"));
+
+        SortedSet<String> compilationUnits = new TreeSet<>();
+        SortedSet<String> datatypes = new TreeSet<>();
+        for (CodeItem codeItem : codeModel.getContent()) {
+            for (CodeCompilationUnit compilationUnit : codeItem.getAllCompilationUnits()) {
+                compilationUnits.add(compilationUnit.getLanguage() + " " + compilationUnit.getPath());
+            }
+            for (Datatype datatype : codeItem.getAllDataTypes()) {
+                datatypes.add(datatype.getName());
+            }
+        }
+        assertEquals(new TreeSet<>(List.of("JAVA edu/AClass.java", "SHELL build.sh")), compilationUnits);
+        assertEquals(new TreeSet<>(List.of("AClass")), datatypes);
+
+        assertSame(codeModel, extractor.extractModel());
+        assertSame(classifiedCodeFiles, extractor.getClassifiedCodeFiles());
+    }
+}
@@ -0,0 +1,67 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.models.generators.code;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.common.util.CacheFiles;
+import edu.kit.kastel.mcse.ardoco.magika.FileTypePredictor;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.ClassifiedCodeFiles;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.FileTypeClassificationCache;
+
+class ClassifiedCodeFilesTest {
+
+    private static final String FILE = "build";
+    private static final String CACHED_LABEL = "cached";
+
+    private final FileTypePredictor fileTypePredictor = new FileTypePredictor();
+
+    @TempDir
+    private Path cacheDirectory;
+
+    @TempDir
+    private Path codeDirectory;
+
+    @Test
+    void classifiesOnlyNewAndChangedFiles() throws IOException {
+        Path file = this.codeDirectory.resolve(FILE);
+        Files.writeString(file, "#!/bin/sh\nset -e\nmvn -B package\n");
+        String predictedLabel = labelOf(file);
+        assertTrue(classify().hasLabel(file, predictedLabel));
+
+        // replace the stored label, so the next run returns it only if it does not classify the unchanged file again
+        var cache = openCache();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        String contentHash = CacheFiles.hash(Files.readAllBytes(file));
+        assertEquals(Optional.of(predictedLabel), cache.getLabel(FILE, attributes.size(), attributes.lastModifiedTime().toMillis(), contentHash));
+        cache.put(FILE, attributes.size(), attributes.lastModifiedTime().toMillis(), contentHash, CACHED_LABEL);
+        cache.save();
+
+        assertTrue(classify().hasLabel(file, CACHED_LABEL));
+
+        Files.writeString(file, "#!/bin/sh\nset -e\nmvn -B clean package\n");
+        assertTrue(classify().hasLabel(file, predictedLabel));
+        assertEquals(Optional.of(predictedLabel), openCache().getLabel(FILE, Files.size(file), Files.getLastModifiedTime(file).toMillis()));
+    }
+
+    private ClassifiedCodeFiles classify() {
+        return ClassifiedCodeFiles.classify(this.fileTypePredictor, this.codeDirectory, openCache());
+    }
+
+    private FileTypeClassificationCache openCache() {
+        return FileTypeClassificationCache.open(this.cacheDirectory, this.codeDirectory);
+    }
+
+    private String labelOf(Path file) throws IOException {
+        return this.fileTypePredictor.predictBytes(Files.readAllBytes(file)).label();
+    }
+}
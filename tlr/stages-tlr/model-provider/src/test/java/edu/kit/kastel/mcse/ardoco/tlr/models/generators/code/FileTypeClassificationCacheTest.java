@@ -0,0 +1,60 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.models.generators.code;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.common.util.CacheFiles;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.FileTypeClassificationCache;
+
+class FileTypeClassificationCacheTest {
+
+    private static final String FILE = "scripts/build";
+    private static final String CONTENT_HASH = CacheFiles.hash("#!/bin/sh\necho build\n".getBytes(StandardCharsets.UTF_8));
+
+    @TempDir
+    private Path cacheDirectory;
+
+    @TempDir
+    private Path codeDirectory;
+
+    @Test
+    void loadsSavedLabels() {
+        var cache = FileTypeClassificationCache.open(this.cacheDirectory, this.codeDirectory);
+        assertTrue(cache.getLabel(FILE, 21, 1000).isEmpty());
+        cache.put(FILE, 21, 1000, CONTENT_HASH, "shell");
+        cache.save();
+
+        var reopenedCache = FileTypeClassificationCache.open(this.cacheDirectory, this.codeDirectory);
+        assertEquals(Optional.of("shell"), reopenedCache.getLabel(FILE, 21, 1000));
+    }
+
+    @Test
+    void fallsBackToContentHashIfMetadataChanged() {
+        var cache = FileTypeClassificationCache.open(this.cacheDirectory, this.codeDirectory);
+        cache.put(FILE, 21, 1000, CONTENT_HASH, "shell");
+
+        assertTrue(cache.getLabel(FILE, 21, 2000).isEmpty());
+        assertTrue(cache.getLabel(FILE, 21, 2000, CacheFiles.hash(new byte[0])).isEmpty());
+        assertEquals(Optional.of("shell"), cache.getLabel(FILE, 21, 2000, CONTENT_HASH));
+        assertEquals(Optional.of("shell"), cache.getLabel(FILE, 21, 2000));
+    }
+
+    @Test
+    void forgetsRemovedFiles() {
+        var cache = FileTypeClassificationCache.open(this.cacheDirectory, this.codeDirectory);
+        cache.put(FILE, 21, 1000, CONTENT_HASH, "shell");
+        cache.retain(List.of());
+        cache.save();
+
+        assertTrue(FileTypeClassificationCache.open(this.cacheDirectory, this.codeDirectory).getLabel(FILE, 21, 1000).isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.models.generators.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItem;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.core.api.models.code.Datatype;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.java.JavaExtractor;
+import edu.kit.kastel.mcse.ardoco.tlr.models.connectors.generators.code.java.JavaModel;
+
+class JavaModelTest {
+
+    /**
+     * The extractor adds the compilation units one by one while they are parsed, the map-based constructor adds them after all of them have been parsed. Both
+     * must resolve the same relationships. Identifiers depend on the creation order of the code items, so the types are compared by their paths and names.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "src/test/resources/interface", "src/test/resources/teastore" })
+    void incrementalModelEqualsModelOfAllCompilationUnits(String directory) throws IOException {
+        CodeModel incrementalModel = new JavaExtractor(new CodeItemRepository(), directory, Metamodel.CODE_WITH_COMPILATION_UNITS).extractModel();
+        CodeModel mapBasedModel = new JavaModel(new CodeItemRepository(), parseDirectory(Path.of(directory))).getCodeModel(
+                Metamodel.CODE_WITH_COMPILATION_UNITS);
+
+        SortedMap<String, String> expectedTypes = describeTypes(mapBasedModel);
+        assertFalse(expectedTypes.isEmpty());
+        assertEquals(expectedTypes, describeTypes(incrementalModel));
+    }
+
+    private static SortedMap<String, CompilationUnit> parseDirectory(Path directory) throws IOException {
+        String[] sources;
+        try (Stream<Path> paths = Files.walk(directory.toAbsolutePath().normalize())) {
+            sources = paths.filter(path -> path.toString().endsWith(".java")).map(Path::toString).sorted().toArray(String[]::new);
+        }
+        String[] encodings = new String[sources.length];
+        Arrays.fill(encodings, StandardCharsets.UTF_8.toString());
+
+        String javaCoreVersion = JavaCore.latestSupportedJavaVersion();
+        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setResolveBindings(true);
+        parser.setStatementsRecovery(true);
+        parser.setCompilerOptions(Map.of(JavaCore.COMPILER_SOURCE, javaCoreVersion, JavaCore.COMPILER_COMPLIANCE, javaCoreVersion,
+                JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, javaCoreVersion));
+        parser.setEnvironment(new String[0], new String[0], new String[0], false);
+
+        URI directoryUri = directory.toAbsolutePath().normalize().toUri();
+        SortedMap<String, CompilationUnit> compilationUnits = new TreeMap<>();
+        parser.createASTs(sources, encodings, new String[0], new FileASTRequestor() {
+            @Override
+            public void acceptAST(String sourceFilePath, CompilationUnit ast) {
+                compilationUnits.put(directoryUri.relativize(Path.of(sourceFilePath).toUri()).toString(), ast);
+            }
+        }, new NullProgressMonitor());
+        return compilationUnits;
+    }
+
+    private static SortedMap<String, String> describeTypes(CodeModel codeModel) {
+        SortedMap<String, String> types = new TreeMap<>();
+        for (CodeItem codeItem : codeModel.getContent()) {
+            for (Datatype datatype : codeItem.getAllDataTypes()) {
+                String description = "extends " + names(datatype.getExtendedTypes()) + ", implements " + names(datatype.getImplementedTypes()) + ", references "
+                        + names(datatype.getDatatypeReferences());
+                types.put(name(datatype), description);
+            }
+        }
+        return types;
+    }
+
+    private static TreeSet<String> names(Collection<Datatype> datatypes) {
+        TreeSet<String> names = new TreeSet<>();
+        for (Datatype datatype : datatypes) {
+            names.add(name(datatype));
+        }
+        return names;
+    }
+
+    private static String name(Datatype datatype) {
+        var compilationUnit = datatype.getCompilationUnit();
+        String prefix = compilationUnit == null ? "" : compilationUnit.getPath() + "#";
+        Datatype parent = datatype.getParentDatatype();
+        return prefix + (parent == null ? "" : parent.getName() + ".") + datatype.getName();
+    }
+}
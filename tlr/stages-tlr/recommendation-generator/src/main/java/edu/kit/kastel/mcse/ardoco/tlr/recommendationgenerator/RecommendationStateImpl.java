@@ -23,6 +23,8 @@ public class RecommendationStateImpl extends AbstractState implements Recommenda
     @Serial
     private static final long serialVersionUID = 3088770775218314854L;
     private final MutableSortedSet<RecommendedInstance> recommendedInstances;
+    // snapshot returned by the getter until the next recommended instance is added
+    private transient ImmutableList<RecommendedInstance> recommendedInstancesSnapshot;
 
     /**
      * Creates a new recommendation state.
@@ -33,13 +35,16 @@ public RecommendationStateImpl() {
     }
 
     /**
-     * Returns all recommended instances.
+     * Returns all recommended instances. The returned list is a snapshot that is only rebuilt after a recommended instance was added.
      *
      * @return all recommended instances as list
      */
     @Override
     public ImmutableList<RecommendedInstance> getRecommendedInstances() {
-        return Lists.immutable.withAll(this.recommendedInstances);
+        if (this.recommendedInstancesSnapshot == null) {
+            this.recommendedInstancesSnapshot = Lists.immutable.withAll(this.recommendedInstances);
+        }
+        return this.recommendedInstancesSnapshot;
     }
 
     /**
@@ -94,7 +99,7 @@ private void addRecommendedInstance(RecommendedInstance ri) {
 
     private void processRecommendedInstancesWithNoExactNameAndType(RecommendedInstance ri, ImmutableList<RecommendedInstance> risWithExactName) {
         if (risWithExactName.isEmpty()) {
-            this.recommendedInstances.add(ri);
+            this.addToRecommendedInstances(ri);
         } else {
             var added = false;
 
@@ -108,11 +113,16 @@ private void processRecommendedInstancesWithNoExactNameAndType(RecommendedInstan
             }
 
             if (!added && !ri.getType().isBlank()) {
-                this.recommendedInstances.add(ri);
+                this.addToRecommendedInstances(ri);
             }
         }
     }
 
+    private void addToRecommendedInstances(RecommendedInstance ri) {
+        this.recommendedInstances.add(ri);
+        this.recommendedInstancesSnapshot = null;
+    }
+
     private static boolean recommendedInstancesHasEmptyType(RecommendedInstance ri, RecommendedInstance riWithExactName) {
         return riWithExactName.getType().isBlank() && !ri.getType().isBlank();
     }
@@ -8,15 +8,14 @@
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.Model;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.recommendationgenerator.RecommendationState;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.NounMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.TextState;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
-import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
+import edu.kit.kastel.mcse.ardoco.core.common.util.TypeIdentifierVocabulary;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
@@ -54,9 +53,10 @@ public void process() {
                 continue;
             }
             var recommendationState = recommendationStates.getRecommendationState(metamodel);
+            var typeIdentifiers = TypeIdentifierVocabulary.of(model);
 
-            this.createRecommendationInstancesFromCompoundNounMappings(textState, recommendationState, model);
-            this.findMoreCompoundsForRecommendationInstances(textState, recommendationState, model);
+            this.createRecommendationInstancesFromCompoundNounMappings(textState, recommendationState, typeIdentifiers);
+            this.findMoreCompoundsForRecommendationInstances(textState, recommendationState, typeIdentifiers);
             this.findSpecialNamedEntitities(textState, recommendationState);
         }
     }
@@ -64,11 +64,12 @@ public void process() {
     /**
      * Look at NounMappings and add RecommendedInstances, if a NounMapping was created because of a compound (in text-extraction)
      */
-    private void createRecommendationInstancesFromCompoundNounMappings(TextState textState, RecommendationState recommendationState, Model model) {
+    private void createRecommendationInstancesFromCompoundNounMappings(TextState textState, RecommendationState recommendationState,
+            TypeIdentifierVocabulary typeIdentifiers) {
         for (var nounMapping : textState.getNounMappings()) {
             if (nounMapping.isCompound()) {
                 var typeMappings = this.getRelatedTypeMappings(nounMapping, textState);
-                this.addRecommendedInstance(nounMapping, typeMappings, recommendationState, model);
+                this.addRecommendedInstance(nounMapping, typeMappings, recommendationState, typeIdentifiers);
             }
         }
     }
@@ -77,14 +78,15 @@ private void createRecommendationInstancesFromCompoundNounMappings(TextState tex
      * Find additional compounds and create RecommendedInstances for them. Additional compounds are when a word in a NounMapping has another word in front or
      * afterward and that compounds is a TypeMapping
      */
-    private void findMoreCompoundsForRecommendationInstances(TextState textState, RecommendationState recommendationState, Model model) {
+    private void findMoreCompoundsForRecommendationInstances(TextState textState, RecommendationState recommendationState,
+            TypeIdentifierVocabulary typeIdentifiers) {
         for (var nounMapping : textState.getNounMappings()) {
             for (var word : nounMapping.getWords()) {
                 var prevWord = word.getPreWord();
-                this.addRecommendedInstanceIfCompoundWithOtherWord(nounMapping, prevWord, textState, recommendationState, model);
+                this.addRecommendedInstanceIfCompoundWithOtherWord(nounMapping, prevWord, textState, recommendationState, typeIdentifiers);
 
                 var nextWord = word.getNextWord();
-                this.addRecommendedInstanceIfCompoundWithOtherWord(nounMapping, nextWord, textState, recommendationState, model);
+                this.addRecommendedInstanceIfCompoundWithOtherWord(nounMapping, nextWord, textState, recommendationState, typeIdentifiers);
             }
         }
     }
@@ -110,9 +112,9 @@ private void findSpecialNamedEntitiesInNounMappings(ImmutableList<NounMapping> n
     }
 
     private void addRecommendedInstance(NounMapping nounMapping, ImmutableList<NounMapping> typeMappings, RecommendationState recommendationState,
-            Model model) {
+            TypeIdentifierVocabulary typeIdentifiers) {
         var nounMappings = Lists.immutable.of(nounMapping);
-        var types = this.getSimilarModelTypes(typeMappings, model);
+        var types = this.getSimilarModelTypes(typeMappings, typeIdentifiers);
         if (types.isEmpty()) {
             recommendationState.addRecommendedInstance(nounMapping.getReference(), "", this, this.confidence, nounMappings, typeMappings);
         } else {
@@ -122,17 +124,12 @@ private void addRecommendedInstance(NounMapping nounMapping, ImmutableList<NounM
         }
     }
 
-    private ImmutableList<String> getSimilarModelTypes(ImmutableList<NounMapping> typeMappings, Model model) {
+    private ImmutableList<String> getSimilarModelTypes(ImmutableList<NounMapping> typeMappings, TypeIdentifierVocabulary typeIdentifiers) {
         MutableSortedSet<String> similarModelTypes = SortedSets.mutable.empty();
-        var typeIdentifiers = CommonUtilities.getSplittedTypeIdentifiers(model);
         for (var typeMapping : typeMappings) {
-            var currSimilarTypes = Lists.immutable.fromStream(typeIdentifiers.stream()
-                    .filter(typeId -> SimilarityUtils.getInstance().areWordsSimilar(typeId, typeMapping.getReference())));
-            similarModelTypes.addAll(currSimilarTypes.toList());
+            similarModelTypes.addAll(typeIdentifiers.getSimilarTypes(typeMapping.getReference()).castToList());
             for (var word : typeMapping.getWords()) {
-                currSimilarTypes = Lists.immutable.fromStream(typeIdentifiers.stream()
-                        .filter(typeId -> SimilarityUtils.getInstance().areWordsSimilar(typeId, word.getLemma())));
-                similarModelTypes.addAll(currSimilarTypes.toList());
+                similarModelTypes.addAll(typeIdentifiers.getSimilarTypes(word.getLemma()).castToList());
             }
         }
         return similarModelTypes.toList().toImmutable();
@@ -149,7 +146,7 @@ private ImmutableList<NounMapping> getRelatedTypeMappings(NounMapping nounMappin
     }
 
     private void addRecommendedInstanceIfCompoundWithOtherWord(NounMapping nounMapping, Word word, TextState textState, RecommendationState recommendationState,
-            Model model) {
+            TypeIdentifierVocabulary typeIdentifiers) {
         if (word == null) {
             return;
         }
@@ -157,7 +154,7 @@ private void addRecommendedInstanceIfCompoundWithOtherWord(NounMapping nounMappi
         if (word.getPosTag().isNoun()) {
             var typeMappings = textState.getMappingsThatCouldBeOfKind(word, MappingKind.TYPE);
             if (!typeMappings.isEmpty()) {
-                this.addRecommendedInstance(nounMapping, typeMappings, recommendationState, model);
+                this.addRecommendedInstance(nounMapping, typeMappings, recommendationState, typeIdentifiers);
             }
         }
     }
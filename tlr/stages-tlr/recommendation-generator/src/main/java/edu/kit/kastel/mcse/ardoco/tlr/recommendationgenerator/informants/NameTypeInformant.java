@@ -1,9 +1,11 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.recommendationgenerator.informants;
 
+import java.util.SortedMap;
+
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.Model;
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.ModelStates;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.recommendationgenerator.RecommendationState;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.recommendationgenerator.RecommendationStates;
@@ -13,6 +15,7 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
+import edu.kit.kastel.mcse.ardoco.core.common.util.TypeIdentifierVocabulary;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
@@ -44,25 +47,27 @@ public void process() {
         var textStateStrategy = this.textStateStrategies.apply(this.getDataRepository());
         var modelStatesData = DataRepositoryHelper.getModelStatesData(dataRepository);
         var recommendationStates = DataRepositoryHelper.getRecommendationStates(dataRepository);
+        var typeIdentifierVocabularies = TypeIdentifierVocabulary.ofModels(modelStatesData);
 
         for (var word : text.words()) {
-            this.exec(textState, textStateStrategy, modelStatesData, recommendationStates, word);
+            this.exec(textState, textStateStrategy, modelStatesData, typeIdentifierVocabularies, recommendationStates, word);
         }
     }
 
-    private void exec(TextState textState, TextStateStrategy textStateStrategy, ModelStates modelStates, RecommendationStates recommendationStates, Word word) {
+    private void exec(TextState textState, TextStateStrategy textStateStrategy, ModelStates modelStates,
+            SortedMap<Metamodel, TypeIdentifierVocabulary> typeIdentifierVocabularies, RecommendationStates recommendationStates, Word word) {
 
         for (var metamodel : modelStates.getMetamodels()) {
-            var model = modelStates.getModel(metamodel);
-            if (model == null) {
+            var typeIdentifiers = typeIdentifierVocabularies.get(metamodel);
+            if (typeIdentifiers == null) {
                 continue;
             }
             var recommendationState = recommendationStates.getRecommendationState(metamodel);
 
-            this.addRecommendedInstanceIfNameAfterType(textState, textStateStrategy, word, model, recommendationState);
-            this.addRecommendedInstanceIfNameBeforeType(textState, textStateStrategy, word, model, recommendationState);
-            this.addRecommendedInstanceIfNameOrTypeBeforeType(textState, textStateStrategy, word, model, recommendationState);
-            this.addRecommendedInstanceIfNameOrTypeAfterType(textState, textStateStrategy, word, model, recommendationState);
+            this.addRecommendedInstanceIfNameAfterType(textState, textStateStrategy, word, typeIdentifiers, recommendationState);
+            this.addRecommendedInstanceIfNameBeforeType(textState, textStateStrategy, word, typeIdentifiers, recommendationState);
+            this.addRecommendedInstanceIfNameOrTypeBeforeType(textState, textStateStrategy, word, typeIdentifiers, recommendationState);
+            this.addRecommendedInstanceIfNameOrTypeAfterType(textState, textStateStrategy, word, typeIdentifiers, recommendationState);
         }
     }
 
@@ -70,13 +75,13 @@ private void exec(TextState textState, TextStateStrategy textStateStrategy, Mode
      * Checks if the current node is a type in the text extraction state. If the names of the text extraction state contain the previous node. If that's the
      * case a recommendation for the combination of both is created.
      */
-    private void addRecommendedInstanceIfNameBeforeType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+    private void addRecommendedInstanceIfNameBeforeType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word,
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var similarTypes = CommonUtilities.getSimilarTypes(word, model);
+        var similarTypes = typeIdentifiers.getSimilarTypes(word);
 
         if (!similarTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
@@ -92,13 +97,13 @@ private void addRecommendedInstanceIfNameBeforeType(TextState textExtractionStat
      * Checks if the current node is a type in the text extraction state. If the names of the text extraction state contain the following node. If that's the
      * case a recommendation for the combination of both is created.
      */
-    private void addRecommendedInstanceIfNameAfterType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+    private void addRecommendedInstanceIfNameAfterType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word,
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, model);
+        var sameLemmaTypes = typeIdentifiers.getSimilarTypes(word);
         if (!sameLemmaTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
 
@@ -113,13 +118,13 @@ private void addRecommendedInstanceIfNameAfterType(TextState textExtractionState
      * Checks if the current node is a type in the text extraction state. If the name_or_types of the text extraction state contain the previous node. If that's
      * the case a recommendation for the combination of both is created.
      */
-    private void addRecommendedInstanceIfNameOrTypeBeforeType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+    private void addRecommendedInstanceIfNameOrTypeBeforeType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word,
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, model);
+        var sameLemmaTypes = typeIdentifiers.getSimilarTypes(word);
 
         if (!sameLemmaTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
@@ -138,16 +143,16 @@ private void addRecommendedInstanceIfNameOrTypeBeforeType(TextState textExtracti
      * @param textExtractionState text extraction state
      * @param word                the current word
      * @param recommendationState the recommendation state
-     * @param model               the model
+     * @param typeIdentifiers     the type identifiers of the model
      */
 
-    private void addRecommendedInstanceIfNameOrTypeAfterType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word, Model model,
-            RecommendationState recommendationState) {
+    private void addRecommendedInstanceIfNameOrTypeAfterType(TextState textExtractionState, TextStateStrategy textStateStrategy, Word word,
+            TypeIdentifierVocabulary typeIdentifiers, RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, model);
+        var sameLemmaTypes = typeIdentifiers.getSimilarTypes(word);
         if (!sameLemmaTypes.isEmpty()) {
             textStateStrategy.addNounMapping(word, MappingKind.TYPE, this, this.probability);
 
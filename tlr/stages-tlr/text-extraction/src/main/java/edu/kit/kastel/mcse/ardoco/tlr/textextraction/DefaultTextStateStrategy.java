@@ -24,6 +24,7 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils.NounMappingComparisonKey;
 import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
 import edu.kit.kastel.mcse.ardoco.core.data.Confidence;
@@ -122,12 +123,10 @@ public NounMapping addNounMapping(Word word, MappingKind kind, Claimant claimant
         NounMapping disposableNounMapping = new NounMappingImpl(SortedSets.immutable.with(word), kind, claimant, probability, Lists.immutable.with(word),
                 surfaceForms);
 
-        for (var existingNounMapping : this.textState.getNounMappings()) {
-            if (SimilarityUtils.getInstance().areNounMappingsSimilar(disposableNounMapping, existingNounMapping)) {
-
-                return this.mergeNounMappings(existingNounMapping, disposableNounMapping, disposableNounMapping.getReferenceWords(), disposableNounMapping
-                        .getReference(), disposableNounMapping.getKind(), claimant, disposableNounMapping.getProbability());
-            }
+        var existingNounMapping = this.findFirstSimilarNounMapping(disposableNounMapping);
+        if (existingNounMapping != null) {
+            return this.mergeNounMappings(existingNounMapping, disposableNounMapping, disposableNounMapping.getReferenceWords(), disposableNounMapping
+                    .getReference(), disposableNounMapping.getKind(), claimant, disposableNounMapping.getProbability());
         }
 
         this.textState.addNounMapping(disposableNounMapping);
@@ -181,4 +180,20 @@ public NounMappingImpl mergeNounMappings(NounMapping firstNounMapping, NounMappi
         return mergedNounMapping;
     }
 
+    /**
+     * Returns the first noun mapping of the state that is similar to the given noun mapping. The state of the text extraction keeps an index of its noun
+     * mappings for this lookup, which lives as long as the state, whereas strategies are created for every use.
+     */
+    private NounMapping findFirstSimilarNounMapping(NounMapping nounMapping) {
+        var comparisonKey = NounMappingComparisonKey.of(nounMapping);
+        if (this.textState instanceof TextStateImpl textStateImpl) {
+            return textStateImpl.findFirstSimilarNounMapping(comparisonKey);
+        }
+        for (var existingNounMapping : this.textState.getNounMappings()) {
+            if (SimilarityUtils.getInstance().areNounMappingsSimilar(comparisonKey, NounMappingComparisonKey.of(existingNounMapping))) {
+                return existingNounMapping;
+            }
+        }
+        return null;
+    }
 }
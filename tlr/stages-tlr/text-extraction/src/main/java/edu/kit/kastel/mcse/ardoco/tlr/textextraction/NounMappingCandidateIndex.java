@@ -0,0 +1,152 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.textextraction;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils.NounMappingComparisonKey;
+
+/**
+ * Index of the noun mappings of a text state that finds the first noun mapping that is similar to a new one without comparing the new one with all noun
+ * mappings. The noun mappings are indexed by their exact reference and by the lengths of the terms that
+ * {@link SimilarityUtils#areNounMappingsSimilar(NounMappingComparisonKey, NounMappingComparisonKey)} compares. Only the length buckets that
+ * {@link SimilarityUtils#canWordsBeSimilar(int, int) can be similar} to the new noun mapping according to the configured measures are visited. The candidates
+ * are visited in the order of their earliest creation time, which is the order of the noun mappings in the text state, so the first similar noun mapping is
+ * the same as in a scan of all noun mappings.
+ */
+@Deterministic
+final class NounMappingCandidateIndex {
+    /**
+     * Bucket of terms whose lower case form has another length. The length bounds of the measures do not apply to them, so they are always visited.
+     */
+    private static final int ANY_LENGTH = -1;
+
+    private final Map<NounMapping, NounMappingComparisonKey> comparisonKeys = new IdentityHashMap<>();
+    private final SortedMap<Long, NounMapping> comparableNounMappings = new TreeMap<>();
+    private final SortedMap<String, SortedMap<Long, NounMapping>> nounMappingsByReference = new TreeMap<>();
+    // noun mappings with a single reference word are compared by their first reference part and their reference word
+    private final SortedMap<Integer, SortedMap<Long, NounMapping>> nounMappingsByFirstReferencePartLength = new TreeMap<>();
+    private final SortedMap<Integer, SortedMap<Long, NounMapping>> nounMappingsByReferenceWordLength = new TreeMap<>();
+    // all other noun mappings are compared by their reference
+    private final SortedMap<Integer, SortedMap<Long, NounMapping>> nounMappingsByReferenceLength = new TreeMap<>();
+
+    /**
+     * Adds the noun mapping to the index. The noun mapping must not have the same earliest creation time as another noun mapping of the index.
+     *
+     * @param nounMapping the noun mapping
+     */
+    void add(NounMapping nounMapping) {
+        var comparisonKey = NounMappingComparisonKey.of(nounMapping);
+        this.comparisonKeys.put(nounMapping, comparisonKey);
+        if (comparisonKey.firstReferencePart() == null) {
+            // never similar to any noun mapping
+            return;
+        }
+        Long creationTime = creationTime(nounMapping);
+        this.comparableNounMappings.put(creationTime, nounMapping);
+        this.nounMappingsByReference.computeIfAbsent(comparisonKey.reference(), reference -> new TreeMap<>()).put(creationTime, nounMapping);
+        if (comparisonKey.singleReferenceWord() != null) {
+            bucket(this.nounMappingsByFirstReferencePartLength, comparisonKey.firstReferencePart()).put(creationTime, nounMapping);
+            bucket(this.nounMappingsByReferenceWordLength, comparisonKey.singleReferenceWord().getText()).put(creationTime, nounMapping);
+        } else {
+            bucket(this.nounMappingsByReferenceLength, comparisonKey.reference()).put(creationTime, nounMapping);
+        }
+    }
+
+    /**
+     * Removes the noun mapping from the index.
+     *
+     * @param nounMapping the noun mapping
+     */
+    void remove(NounMapping nounMapping) {
+        var comparisonKey = this.comparisonKeys.remove(nounMapping);
+        if (comparisonKey == null || comparisonKey.firstReferencePart() == null) {
+            return;
+        }
+        Long creationTime = creationTime(nounMapping);
+        this.comparableNounMappings.remove(creationTime);
+        removeFromBucket(this.nounMappingsByReference, comparisonKey.reference(), creationTime);
+        if (comparisonKey.singleReferenceWord() != null) {
+            removeFromBucket(this.nounMappingsByFirstReferencePartLength, length(comparisonKey.firstReferencePart()), creationTime);
+            removeFromBucket(this.nounMappingsByReferenceWordLength, length(comparisonKey.singleReferenceWord().getText()), creationTime);
+        } else {
+            removeFromBucket(this.nounMappingsByReferenceLength, length(comparisonKey.reference()), creationTime);
+        }
+    }
+
+    /**
+     * Returns the indexed noun mapping with the earliest creation time that is similar to the noun mapping with the specified comparison key.
+     *
+     * @param comparisonKey the comparison key of the new noun mapping
+     * @return the first similar noun mapping, or null if no indexed noun mapping is similar
+     */
+    NounMapping findFirstSimilar(NounMappingComparisonKey comparisonKey) {
+        if (comparisonKey.firstReferencePart() == null) {
+            return null;
+        }
+        // a noun mapping with the same reference is usually similar, so only noun mappings created before it need to be compared
+        NounMapping firstSimilarWithSameReference = this.findFirstSimilar(comparisonKey, this.nounMappingsByReference.getOrDefault(comparisonKey.reference(),
+                Collections.emptySortedMap()));
+        Long bound = firstSimilarWithSameReference == null ? Long.MAX_VALUE : creationTime(firstSimilarWithSameReference);
+
+        SortedMap<Long, NounMapping> candidates;
+        if (comparisonKey.singleReferenceWord() == null) {
+            candidates = this.comparableNounMappings.headMap(bound);
+        } else {
+            candidates = new TreeMap<>();
+            addCandidates(candidates, this.nounMappingsByFirstReferencePartLength, comparisonKey.firstReferencePart(), bound);
+            addCandidates(candidates, this.nounMappingsByReferenceWordLength, comparisonKey.singleReferenceWord().getText(), bound);
+            addCandidates(candidates, this.nounMappingsByReferenceLength, comparisonKey.reference(), bound);
+        }
+        NounMapping firstSimilar = this.findFirstSimilar(comparisonKey, candidates);
+        return firstSimilar == null ? firstSimilarWithSameReference : firstSimilar;
+    }
+
+    private NounMapping findFirstSimilar(NounMappingComparisonKey comparisonKey, SortedMap<Long, NounMapping> candidates) {
+        for (NounMapping candidate : candidates.values()) {
+            if (SimilarityUtils.getInstance().areNounMappingsSimilar(comparisonKey, this.comparisonKeys.get(candidate))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static void addCandidates(SortedMap<Long, NounMapping> candidates, SortedMap<Integer, SortedMap<Long, NounMapping>> bucketsByLength, String term,
+            Long bound) {
+        int termLength = length(term);
+        for (var bucket : bucketsByLength.entrySet()) {
+            int length = bucket.getKey();
+            if (termLength == ANY_LENGTH || length == ANY_LENGTH || SimilarityUtils.getInstance().canWordsBeSimilar(termLength, length)) {
+                candidates.putAll(bucket.getValue().headMap(bound));
+            }
+        }
+    }
+
+    private static SortedMap<Long, NounMapping> bucket(SortedMap<Integer, SortedMap<Long, NounMapping>> bucketsByLength, String term) {
+        return bucketsByLength.computeIfAbsent(length(term), length -> new TreeMap<>());
+    }
+
+    private static <K> void removeFromBucket(SortedMap<K, SortedMap<Long, NounMapping>> buckets, K key, Long creationTime) {
+        SortedMap<Long, NounMapping> bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.remove(creationTime);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private static int length(String term) {
+        return term.toLowerCase().length() == term.length() ? term.length() : ANY_LENGTH;
+    }
+
+    private static Long creationTime(NounMapping nounMapping) {
+        return ((NounMappingImpl) nounMapping).earliestCreationTime();
+    }
+}
@@ -37,15 +37,16 @@ public class NounMappingImpl implements NounMapping {
     protected static final AtomicLong CREATION_TIME_COUNTER = new AtomicLong(0);
 
     @Serial
-    private static final long serialVersionUID = -1848153982944207492L;
+    private static final long serialVersionUID = 4391620277516093850L;
 
     private static final AggregationFunctions DEFAULT_AGGREGATOR = AVERAGE;
     private final Long earliestCreationTime;
-    private final MutableSortedSet<Word> words;
-    private MutableSortedSet<Phrase> phrases;
+    // the words, reference words, surface forms and phrases never change, so they are stored immutable and returned without copying
+    private final ImmutableSortedSet<Word> words;
+    private ImmutableSortedSet<Phrase> phrases;
     private final MutableSortedMap<MappingKind, Confidence> distribution;
-    private final MutableList<Word> referenceWords;
-    private final MutableList<String> surfaceForms;
+    private final ImmutableList<Word> referenceWords;
+    private final ImmutableList<String> surfaceForms;
     private final String reference;
     private boolean isDefinedAsCompound;
 
@@ -93,10 +94,10 @@ public NounMappingImpl(ImmutableSortedSet<Word> words, ImmutableSortedMap<Mappin
     public NounMappingImpl(Long earliestCreationTime, ImmutableSortedSet<Word> words, ImmutableSortedMap<MappingKind, Confidence> distribution,
             ImmutableList<Word> referenceWords, ImmutableList<String> surfaceForms, String reference) {
         this.earliestCreationTime = earliestCreationTime;
-        this.words = words.toSortedSet();
+        this.words = words.toSortedSet().toImmutable();
         this.distribution = distribution.toSortedMap();
-        this.referenceWords = referenceWords.toList();
-        this.surfaceForms = surfaceForms.toList();
+        this.referenceWords = referenceWords;
+        this.surfaceForms = surfaceForms;
         this.reference = reference;
         this.isDefinedAsCompound = false;
 
@@ -126,7 +127,7 @@ public NounMappingImpl(Long earliestCreationTime, ImmutableSortedSet<Word> words
 
     @Override
     public final ImmutableSortedSet<Word> getWords() {
-        return this.words.toImmutable();
+        return this.words;
     }
 
     @Override
@@ -140,7 +141,7 @@ private static String calculateReference(ImmutableList<Word> words) {
 
     @Override
     public final ImmutableList<Word> getReferenceWords() {
-        return this.referenceWords.toImmutable();
+        return this.referenceWords;
     }
 
     @Override
@@ -155,15 +156,16 @@ public final ImmutableList<Integer> getMappingSentenceNo() {
     @Override
     public ImmutableSortedSet<Phrase> getPhrases() {
         if (this.phrases == null) {
-            this.phrases = SortedSets.mutable.empty();
+            MutableSortedSet<Phrase> phrasesOfWords = SortedSets.mutable.empty();
             for (Word word : this.words) {
-                if (this.phrases.contains(word.getPhrase())) {
+                if (phrasesOfWords.contains(word.getPhrase())) {
                     continue;
                 }
-                this.phrases.add(word.getPhrase());
+                phrasesOfWords.add(word.getPhrase());
             }
+            this.phrases = phrasesOfWords.toImmutable();
         }
-        return this.phrases.toImmutable();
+        return this.phrases;
     }
 
     @Override
@@ -214,7 +216,7 @@ public double getProbabilityForKind(MappingKind mappingKind) {
 
     @Override
     public ImmutableList<String> getSurfaceForms() {
-        return this.surfaceForms.toImmutable();
+        return this.surfaceForms;
     }
 
     public static Long earliestCreationTime(NounMapping... nounMappings) {
@@ -232,7 +234,7 @@ public Long earliestCreationTime() {
     }
 
     public ImmutableSortedSet<Word> words() {
-        return this.words.toImmutable();
+        return this.words;
     }
 
     public void setIsDefinedAsCompound(boolean isDefinedAsCompound) {
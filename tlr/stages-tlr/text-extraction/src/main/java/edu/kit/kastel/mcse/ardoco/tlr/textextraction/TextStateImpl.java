@@ -2,11 +2,15 @@
 package edu.kit.kastel.mcse.ardoco.tlr.textextraction;
 
 import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
 import java.util.Comparator;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 import org.eclipse.collections.api.ordered.SortedIterable;
 
@@ -15,41 +19,70 @@
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.PhraseMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.TextState;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils.NounMappingComparisonKey;
 import edu.kit.kastel.mcse.ardoco.core.common.util.Comparators;
 import edu.kit.kastel.mcse.ardoco.core.data.AbstractState;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepositorySyncer;
 
 /**
- * The Class TextState defines the basic implementation of a {@link TextState}.
+ * The Class TextState defines the basic implementation of a {@link TextState}. The noun mappings are kept ordered by their creation time, so a noun mapping is
+ * inserted at its position instead of re-sorting all noun mappings. The state indexes the noun mappings by their words and phrases and the phrase mappings by
+ * their phrases, so the mappings of a word or phrase are found without scanning all mappings. The buckets of the indexes keep the order of the mappings. The
+ * words and phrases of noun mappings never change, and the phrases of phrase mappings only change within this state. The getters of all noun and phrase
+ * mappings return immutable snapshots that are only rebuilt after a modification. The noun mappings that a new word could be merged with are found with a
+ * {@link NounMappingCandidateIndex}, which is updated with every addition and removal of a noun mapping.
  */
+@Deterministic
 public class TextStateImpl extends AbstractState implements TextState {
 
     @Serial
-    private static final long serialVersionUID = -8204535036570535865L;
+    private static final long serialVersionUID = 2983519416036271465L;
 
     /**
      * Minimum difference that need to shall not be reached to identify a NounMapping as NameOrType.
      */
     private static final double MAPPING_KIND_MAX_DIFF = 0.1;
+    /**
+     * The noun mappings ordered by their earliest creation time, which is unique among the noun mappings of the state.
+     */
     private final MutableList<NounMapping> nounMappings;
     private final MutableList<PhraseMapping> phraseMappings;
+    private final MutableMap<WordPosition, MutableList<NounMapping>> nounMappingsByWord;
+    private final MutableMap<PhrasePosition, MutableList<NounMapping>> nounMappingsByPhrase;
+    private final MutableMap<PhrasePosition, MutableList<PhraseMapping>> phraseMappingsByPhrase;
+    // snapshots returned by the getters until the next modification
+    private transient ImmutableList<NounMapping> nounMappingsSnapshot;
+    private transient ImmutableList<PhraseMapping> phraseMappingsSnapshot;
+    // built on the first lookup, so states that are never searched for similar noun mappings do not maintain it
+    private transient NounMappingCandidateIndex candidateIndex;
 
     public TextStateImpl() {
         this.nounMappings = Lists.mutable.empty();
         this.phraseMappings = Lists.mutable.empty();
+        this.nounMappingsByWord = Maps.mutable.empty();
+        this.nounMappingsByPhrase = Maps.mutable.empty();
+        this.phraseMappingsByPhrase = Maps.mutable.empty();
     }
 
     @Override
     public ImmutableList<NounMapping> getNounMappings() {
-        return this.nounMappings.toImmutableList();
+        if (this.nounMappingsSnapshot == null) {
+            this.nounMappingsSnapshot = this.nounMappings.toImmutableList();
+        }
+        return this.nounMappingsSnapshot;
     }
 
     @Override
     public ImmutableList<PhraseMapping> getPhraseMappings() {
-        return this.phraseMappings.toImmutableList();
+        if (this.phraseMappingsSnapshot == null) {
+            this.phraseMappingsSnapshot = this.phraseMappings.toImmutableList();
+        }
+        return this.phraseMappingsSnapshot;
     }
 
     @Override
@@ -63,15 +96,35 @@ private ImmutableList<PhraseMapping> getPhraseMappingsByNounMapping(NounMapping
         MutableList<PhraseMapping> result = Lists.mutable.empty();
 
         for (Phrase phrase : nounMapping.getPhrases()) {
-            result.addAll(this.phraseMappings.select(pm -> pm.getPhrases().contains(phrase)));
+            result.addAll(bucket(this.phraseMappingsByPhrase, PhrasePosition.of(phrase)));
         }
         return result.toImmutable();
     }
 
     @Override
     public ImmutableList<NounMapping> getNounMappingsByPhraseMapping(PhraseMapping phraseMapping) {
-        return this.getNounMappings()
-                .select(nm -> Comparators.collectionsEqualsAnyOrder(phraseMapping.getPhrases().castToCollection(), nm.getPhrases().castToCollection()));
+        var phrases = phraseMapping.getPhrases();
+        // noun mappings with the same phrases contain the first phrase of the phrase mapping
+        MutableList<NounMapping> candidates = phrases.isEmpty() ?
+                this.nounMappings :
+                bucket(this.nounMappingsByPhrase, PhrasePosition.of(phrases.getFirst()));
+        return candidates.select(nm -> Comparators.collectionsEqualsAnyOrder(phrases.castToCollection(), nm.getPhrases().castToCollection())).toImmutable();
+    }
+
+    @Override
+    public ImmutableList<NounMapping> getNounMappingsByWord(Word word) {
+        return bucket(this.nounMappingsByWord, WordPosition.of(word)).toImmutable();
+    }
+
+    @Override
+    public ImmutableList<NounMapping> getNounMappingsByWordAndKind(Word word, MappingKind kind) {
+        // the kind of a noun mapping depends on its current confidences, so it is checked on the word's noun mappings instead of being indexed
+        return bucket(this.nounMappingsByWord, WordPosition.of(word)).select(nm -> nm.getKind() == kind).toImmutable();
+    }
+
+    @Override
+    public boolean isWordContainedByMappingKind(Word word, MappingKind kind) {
+        return bucket(this.nounMappingsByWord, WordPosition.of(word)).anySatisfy(nm -> nm.getKind() == kind);
     }
 
     private ImmutableList<NounMapping> getNounMappingsThatBelongToTheSamePhraseMapping(NounMapping nounMapping) {
@@ -112,23 +165,58 @@ public ImmutableList<NounMapping> getNounMappingsWithSimilarReference(String ref
         return this.getNounMappings().select(nm -> SimilarityUtils.getInstance().areWordsSimilar(reference, nm.getReference())).toImmutable();
     }
 
+    /**
+     * Returns the noun mapping with the earliest creation time that is similar to the noun mapping with the specified comparison key. The result is the same
+     * as the first similar noun mapping of {@link #getNounMappings()}.
+     *
+     * @param comparisonKey the comparison key of the new noun mapping
+     * @return the first similar noun mapping, or null if no noun mapping is similar
+     */
+    NounMapping findFirstSimilarNounMapping(NounMappingComparisonKey comparisonKey) {
+        if (this.candidateIndex == null) {
+            this.candidateIndex = new NounMappingCandidateIndex();
+            this.nounMappings.forEach(this.candidateIndex::add);
+        }
+        return this.candidateIndex.findFirstSimilar(comparisonKey);
+    }
+
     @Override
     public void addNounMapping(NounMapping nounMapping) {
-        if (this.nounMappings.contains(nounMapping)) {
+        // throws if another noun mapping has the same creation time
+        int index = Collections.binarySearch(this.nounMappings, nounMapping, ORDER_NOUNMAPPING);
+        if (index >= 0) {
             throw new IllegalArgumentException("Nounmapping was already in state");
         }
-        this.nounMappings.add(nounMapping);
-        this.nounMappings.sortThis(ORDER_NOUNMAPPING);
+        this.nounMappings.add(-index - 1, nounMapping);
+        this.nounMappingsSnapshot = null;
+        if (this.candidateIndex != null) {
+            this.candidateIndex.add(nounMapping);
+        }
+        for (Word word : nounMapping.getWords()) {
+            insertSorted(this.nounMappingsByWord.getIfAbsentPut(WordPosition.of(word), Lists.mutable::empty), nounMapping);
+        }
+        for (Phrase phrase : nounMapping.getPhrases()) {
+            insertSorted(this.nounMappingsByPhrase.getIfAbsentPut(PhrasePosition.of(phrase), Lists.mutable::empty), nounMapping);
+        }
 
-        for (PhraseMapping phraseMapping : this.phraseMappings) {
+        var phrasesOfNounMapping = nounMapping.getPhrases();
+        // phrase mappings with the same phrases contain the first phrase of the noun mapping
+        MutableList<PhraseMapping> candidates = phrasesOfNounMapping.isEmpty() ?
+                this.phraseMappings :
+                bucket(this.phraseMappingsByPhrase, PhrasePosition.of(phrasesOfNounMapping.getFirst()));
+        for (PhraseMapping phraseMapping : candidates) {
             SortedIterable<Phrase> phrases = phraseMapping.getPhrases();
-            SortedIterable<Phrase> phrasesOfNounMapping = nounMapping.getPhrases();
             if (Comparators.collectionsIdentityAnyOrder(phrases, phrasesOfNounMapping)) {
                 return;
             }
         }
-        PhraseMapping phraseMappingImpl = new PhraseMappingImpl(nounMapping.getPhrases());
-        this.phraseMappings.add(phraseMappingImpl);
+        PhraseMapping phraseMappingImpl = new PhraseMappingImpl(phrasesOfNounMapping);
+        this.addPhraseMapping(phraseMappingImpl);
+    }
+
+    private static void insertSorted(MutableList<NounMapping> bucket, NounMapping nounMapping) {
+        int index = Collections.binarySearch(bucket, nounMapping, ORDER_NOUNMAPPING);
+        bucket.add(index < 0 ? -index - 1 : index, nounMapping);
     }
 
     @Override
@@ -140,22 +228,66 @@ public void removeNounMapping(DataRepository dataRepository, NounMapping nounMap
             var otherNounMappings = this.getNounMappingsThatBelongToTheSamePhraseMapping(nounMapping);
             if (!otherNounMappings.isEmpty()) {
                 var phrases = nounMapping.getPhrases().select(p -> !otherNounMappings.flatCollect(NounMapping::getPhrases).contains(p));
-                phrases.forEach(phraseMapping::removePhrase);
+                for (Phrase phrase : phrases) {
+                    phraseMapping.removePhrase(phrase);
+                    MutableList<PhraseMapping> phraseMappingsOfPhrase = this.phraseMappingsByPhrase.get(PhrasePosition.of(phrase));
+                    if (phraseMappingsOfPhrase != null) {
+                        phraseMappingsOfPhrase.removeIf(pm -> pm == phraseMapping);
+                    }
+                }
             }
         }
 
-        this.nounMappings.remove(nounMapping);
+        int index = this.indexOfNounMapping(nounMapping);
+        if (index >= 0) {
+            this.nounMappings.remove(index);
+            this.nounMappingsSnapshot = null;
+            if (this.candidateIndex != null) {
+                this.candidateIndex.remove(nounMapping);
+            }
+            for (Word word : nounMapping.getWords()) {
+                removeFirst(this.nounMappingsByWord, WordPosition.of(word), nounMapping);
+            }
+            for (Phrase phrase : nounMapping.getPhrases()) {
+                removeFirst(this.nounMappingsByPhrase, PhrasePosition.of(phrase), nounMapping);
+            }
+        }
         DataRepositorySyncer.onNounMappingDeletion(dataRepository, nounMapping, replacement);
     }
 
     @Override
     public void addPhraseMapping(PhraseMapping phraseMapping) {
         this.phraseMappings.add(phraseMapping);
+        this.phraseMappingsSnapshot = null;
+        for (Phrase phrase : phraseMapping.getPhrases()) {
+            this.phraseMappingsByPhrase.getIfAbsentPut(PhrasePosition.of(phrase), Lists.mutable::empty).add(phraseMapping);
+        }
     }
 
     @Override
     public void removePhraseMapping(PhraseMapping phraseMapping, PhraseMapping replacement) {
-        this.phraseMappings.remove(phraseMapping);
+        if (this.phraseMappings.remove(phraseMapping)) {
+            this.phraseMappingsSnapshot = null;
+            for (Phrase phrase : phraseMapping.getPhrases()) {
+                removeFirst(this.phraseMappingsByPhrase, PhrasePosition.of(phrase), phraseMapping);
+            }
+        }
+    }
+
+    private static <K, V> MutableList<V> bucket(MutableMap<K, MutableList<V>> index, K key) {
+        MutableList<V> bucket = index.get(key);
+        return bucket == null ? Lists.fixedSize.empty() : bucket;
+    }
+
+    private static <K, V> void removeFirst(MutableMap<K, MutableList<V>> index, K key, V value) {
+        MutableList<V> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(value);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
     }
 
     @Override
@@ -168,17 +300,57 @@ protected void delegateApplyConfigurationToInternalObjects(ImmutableSortedMap<St
         // handle additional configuration
     }
 
+    private int indexOfNounMapping(NounMapping nounMapping) {
+        long creationTime = earliestCreationTime(nounMapping);
+        int low = 0;
+        int high = this.nounMappings.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            NounMapping middleNounMapping = this.nounMappings.get(middle);
+            int compare = Long.compare(earliestCreationTime(middleNounMapping), creationTime);
+            if (compare < 0) {
+                low = middle + 1;
+            } else if (compare > 0) {
+                high = middle - 1;
+            } else {
+                return middleNounMapping.equals(nounMapping) ? middle : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static Long earliestCreationTime(NounMapping nounMapping) {
+        return ((NounMappingImpl) nounMapping).earliestCreationTime();
+    }
+
     private static final Comparator<NounMapping> ORDER_NOUNMAPPING = (n1, n2) -> {
         if (n1.equals(n2)) {
             return 0;
         }
-        var nm1 = (NounMappingImpl) n1;
-        var nm2 = (NounMappingImpl) n2;
-        int compare = Long.compare(nm1.earliestCreationTime(), nm2.earliestCreationTime());
+        int compare = Long.compare(earliestCreationTime(n1), earliestCreationTime(n2));
         if (compare != 0) {
             return compare;
         }
         throw new IllegalStateException("NounMappings are not equal but have same creation time");
     };
 
+    /**
+     * The key of a word in the word index. Mappings hold their words in sorted sets, which consider words at the same position of the same sentence equal.
+     */
+    private record WordPosition(int sentenceNumber, int position) implements Serializable {
+        private static WordPosition of(Word word) {
+            return new WordPosition(word.getSentenceNumber(), word.getPosition());
+        }
+    }
+
+    /**
+     * The key of a phrase in the phrase indexes. Mappings hold their phrases in sorted sets, which consider phrases with the same text and type that start at
+     * the same position of the same sentence equal.
+     */
+    private record PhrasePosition(int sentenceNumber, String text, PhraseType phraseType, int position) implements Serializable {
+        private static PhrasePosition of(Phrase phrase) {
+            return new PhrasePosition(phrase.getSentenceNumber(), phrase.getText(), phrase.getPhraseType(), phrase.getContainedWords().get(0).getPosition());
+        }
+    }
+
 }
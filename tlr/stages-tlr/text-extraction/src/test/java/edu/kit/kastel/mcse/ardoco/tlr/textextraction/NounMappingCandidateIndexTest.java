@@ -0,0 +1,76 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.textextraction;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils.NounMappingComparisonKey;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.TextImpl;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.WordImpl;
+
+class NounMappingCandidateIndexTest {
+
+    private final TextImpl text = new TextImpl();
+    private final Random random = new Random(42);
+    private int position;
+
+    @Test
+    void findsSameNounMappingAsScanOfAllNounMappings() {
+        var index = new NounMappingCandidateIndex();
+        List<NounMapping> nounMappings = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            NounMapping nounMapping = i % 5 == 0 ? this.createNounMapping(this.createWord(), this.createWord()) : this.createNounMapping(this.createWord());
+            nounMappings.add(nounMapping);
+            index.add(nounMapping);
+        }
+        assertSameAsScan(index, nounMappings);
+
+        for (int i = 0; i < 100; i++) {
+            index.remove(nounMappings.remove(this.random.nextInt(nounMappings.size())));
+        }
+        assertSameAsScan(index, nounMappings);
+    }
+
+    private void assertSameAsScan(NounMappingCandidateIndex index, List<NounMapping> nounMappings) {
+        for (int i = 0; i < 300; i++) {
+            var comparisonKey = NounMappingComparisonKey.of(this.createNounMapping(this.createWord()));
+            NounMapping firstSimilar = nounMappings.stream()
+                    .filter(nounMapping -> SimilarityUtils.getInstance().areNounMappingsSimilar(comparisonKey, NounMappingComparisonKey.of(nounMapping)))
+                    .findFirst()
+                    .orElse(null);
+            assertSame(firstSimilar, index.findFirstSimilar(comparisonKey), comparisonKey.reference());
+        }
+    }
+
+    private NounMapping createNounMapping(Word... words) {
+        ImmutableList<Word> referenceWords = Lists.immutable.with(words);
+        return new NounMappingImpl(SortedSets.immutable.with(words), SortedMaps.immutable.empty(), referenceWords, Lists.immutable.empty(), referenceWords
+                .collect(Word::getText)
+                .makeString(" "));
+    }
+
+    private Word createWord() {
+        // a small alphabet and varying lengths, so that many words are similar
+        var name = new StringBuilder();
+        int length = 2 + this.random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            name.append("abcAB".charAt(this.random.nextInt(5)));
+        }
+        String text = name.toString();
+        int wordPosition = this.position++;
+        return new WordImpl(this.text, wordPosition, 0, text, POSTag.NOUN, text, List.of(), List.of());
+    }
+}
@@ -0,0 +1,102 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.textextraction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.PreprocessingData;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
+import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.PhraseImpl;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.SentenceImpl;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.TextImpl;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.WordImpl;
+
+/**
+ * Measures how the runtime of the text extraction scales with the length of the text. The texts are generated and consist of sentences like "The Abcdefg
+ * sends the Hijklmn." with a vocabulary that grows with the text.
+ */
+@Disabled("Only for manual execution")
+class TextExtractionScalingBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextExtractionScalingBenchmarkTest.class);
+    private static final int WORDS_PER_SENTENCE = 6;
+
+    @Test
+    void benchmarkTextExtractionScaling() {
+        // warm up class loading and the JIT before measuring
+        runTextExtraction(2_000);
+        for (int numberOfWords : List.of(5_000, 10_000, 20_000)) {
+            long start = System.nanoTime();
+            int numberOfNounMappings = runTextExtraction(numberOfWords);
+            logger.info("Text extraction of {} words with {} noun mappings took {} ms", numberOfWords, numberOfNounMappings, (System.nanoTime() - start)
+                    / 1_000_000);
+        }
+    }
+
+    private static int runTextExtraction(int numberOfWords) {
+        var dataRepository = new DataRepository();
+        DataRepositoryHelper.putPreprocessingData(dataRepository, new PreprocessingData(generateText(numberOfWords)));
+        TextExtraction.get(SortedMaps.immutable.empty(), dataRepository).run();
+        var nounMappings = DataRepositoryHelper.getTextState(dataRepository).getNounMappings();
+        Assertions.assertFalse(nounMappings.isEmpty());
+        return nounMappings.size();
+    }
+
+    private static TextImpl generateText(int numberOfWords) {
+        var random = new Random(42);
+        List<String> vocabulary = new ArrayList<>();
+        for (int i = 0; i < numberOfWords / 10; i++) {
+            vocabulary.add(generateName(random));
+        }
+
+        var text = new TextImpl();
+        MutableList<Sentence> sentences = Lists.mutable.empty();
+        for (int sentenceNumber = 0; sentenceNumber < numberOfWords / WORDS_PER_SENTENCE; sentenceNumber++) {
+            int position = sentenceNumber * WORDS_PER_SENTENCE;
+            String subject = vocabulary.get(random.nextInt(vocabulary.size()));
+            String object = vocabulary.get(random.nextInt(vocabulary.size()));
+            List<Word> words = List.of( //
+                    new WordImpl(text, position, sentenceNumber, "The", POSTag.DETERMINER, "the", List.of(), List.of()), //
+                    new WordImpl(text, position + 1, sentenceNumber, subject, POSTag.NOUN_PROPER_SINGULAR, subject, List.of(), List.of()), //
+                    new WordImpl(text, position + 2, sentenceNumber, "sends", POSTag.VERB_SINGULAR_PRESENT_THIRD_PERSON, "send", List.of(), List.of()), //
+                    new WordImpl(text, position + 3, sentenceNumber, "the", POSTag.DETERMINER, "the", List.of(), List.of()), //
+                    new WordImpl(text, position + 4, sentenceNumber, object, POSTag.NOUN, object, List.of(), List.of()), //
+                    new WordImpl(text, position + 5, sentenceNumber, ".", POSTag.CLOSER, ".", List.of(), List.of()));
+
+            Phrase subjectPhrase = new PhraseImpl(Lists.immutable.with(words.get(0), words.get(1)), PhraseType.NP, List.of());
+            Phrase objectPhrase = new PhraseImpl(Lists.immutable.with(words.get(3), words.get(4)), PhraseType.NP, List.of());
+            Phrase verbPhrase = new PhraseImpl(Lists.immutable.with(words.get(2)), PhraseType.VP, List.of(objectPhrase));
+            Phrase sentencePhrase = new PhraseImpl(Lists.immutable.with(words.get(5)), PhraseType.S, List.of(subjectPhrase, verbPhrase));
+
+            var sentence = new SentenceImpl(sentenceNumber, "The " + subject + " sends the " + object + ".", Lists.immutable.withAll(words));
+            sentence.setPhrases(Lists.mutable.with(sentencePhrase));
+            sentences.add(sentence);
+        }
+        text.setSentences(sentences.toImmutable());
+        return text;
+    }
+
+    private static String generateName(Random random) {
+        var name = new StringBuilder().append((char) ('A' + random.nextInt(26)));
+        for (int i = 0; i < 7; i++) {
+            name.append((char) ('a' + random.nextInt(26)));
+        }
+        return name.toString();
+    }
+}
@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp;
 
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Objects;
 
@@ -137,4 +138,24 @@ public int compareTo(Phrase o) {
                 .thenComparingInt(p -> p.getContainedWords().get(0).getPosition())
                 .compare(this, o);
     }
+
+    Tree getTree() {
+        return tree;
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedPhrase(parent, parent.indexOfPhrase(tree));
+    }
+
+    /**
+     * The serialized form of a phrase. The phrase is restored from its sentence by its index in the phrases of the sentence. Restoring the phrase parses the
+     * document of the text.
+     */
+    private record SerializedPhrase(SentenceImpl sentence, int index) implements Serializable {
+        @Serial
+        private Object readResolve() {
+            return sentence.getPhrases().get(index);
+        }
+    }
 }
@@ -1,10 +1,8 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 
@@ -17,7 +15,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
-import edu.stanford.nlp.ling.CoreLabel;
 import edu.stanford.nlp.pipeline.CoreSentence;
 import edu.stanford.nlp.semgraph.SemanticGraph;
 import edu.stanford.nlp.trees.Tree;
@@ -27,8 +24,7 @@ class SentenceImpl implements Sentence {
     @Serial
     private static final long serialVersionUID = 3807070330613904325L;
 
-    private MutableList<Word> words = Lists.mutable.empty();
-    private MutableList<Phrase> phrases = Lists.mutable.empty();
+    private transient volatile PhraseIndex phraseIndex;
 
     private final TextImpl parent;
     private final transient CoreSentence coreSentence;
@@ -51,10 +47,7 @@ public int getSentenceNumber() {
 
     @Override
     public ImmutableList<Word> getWords() {
-        if (words.isEmpty()) {
-            this.words = Lists.mutable.ofAll(parent.words().select(w -> w.getSentenceNumber() == sentenceNumber));
-        }
-        return words.toImmutable();
+        return parent.getWordsOfSentence(sentenceNumber);
     }
 
     @Override
@@ -64,47 +57,64 @@ public String getText() {
 
     @Override
     public ImmutableList<Phrase> getPhrases() {
-        if (phrases.isEmpty()) {
-            MutableList<Phrase> newPhrases = Lists.mutable.empty();
-            var constituencyParse = this.coreSentence.constituencyParse();
-            for (var phrase : constituencyParse) {
-                if (phrase.isPhrasal()) {
-                    ImmutableList<Word> wordsForPhrase = Lists.immutable.withAll(getWordsForPhrase(phrase));
-                    Phrase currPhrase = new PhraseImpl(phrase, wordsForPhrase, this);
-                    newPhrases.add(currPhrase);
+        return getPhraseIndex().phrases();
+    }
+
+    /**
+     * Returns the innermost phrase that contains the word at the given position in this sentence.
+     *
+     * @param positionInSentence the position of the word in this sentence
+     * @return the innermost phrase of the word
+     */
+    Phrase getPhraseOfWord(int positionInSentence) {
+        return getPhraseIndex().innermostPhrases()[positionInSentence];
+    }
+
+    private PhraseIndex getPhraseIndex() {
+        PhraseIndex index = phraseIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = phraseIndex;
+                if (index == null) {
+                    index = createPhraseIndex();
+                    phraseIndex = index;
                 }
             }
-            phrases = newPhrases;
         }
+        return index;
+    }
 
-        return phrases.toImmutable();
+    private PhraseIndex createPhraseIndex() {
+        MutableList<Phrase> newPhrases = Lists.mutable.empty();
+        int firstWord = getWords().getFirst().getPosition();
+        Phrase[] innermostPhrases = new Phrase[getWords().size()];
+        // the trees are visited in pre-order, so the phrases of a word are visited from the outermost to the innermost one
+        for (var phrase : this.coreSentence.constituencyParse()) {
+            if (phrase.isPhrasal()) {
+                ImmutableList<Word> wordsForPhrase = Lists.immutable.withAll(getWordsForPhrase(phrase));
+                Phrase currPhrase = new PhraseImpl(phrase, wordsForPhrase, this);
+                newPhrases.add(currPhrase);
+                for (var word : wordsForPhrase) {
+                    innermostPhrases[word.getPosition() - firstWord] = currPhrase;
+                }
+            }
+        }
+        return new PhraseIndex(newPhrases.toImmutable(), innermostPhrases);
     }
 
     protected List<Word> getWordsForPhrase(Tree phrase) {
         List<Word> phraseWords = Lists.mutable.empty();
         var coreLabels = phrase.taggedLabeledYield();
-        var index = findIndexOfFirstWordInPhrase(coreLabels.getFirst(), this);
+        var index = parent.getIndexOfWordBeginningAt(coreLabels.getFirst().beginPosition());
         logger.debug("phrase starting position: {}", index);
+        var allWords = parent.words();
         for (int wordIndexInSentence = 0; wordIndexInSentence < coreLabels.size(); wordIndexInSentence++) {
-            var phraseWord = parent.words().get(index++);
+            var phraseWord = allWords.get(index++);
             phraseWords.add(phraseWord);
         }
         return phraseWords;
     }
 
-    private static int findIndexOfFirstWordInPhrase(CoreLabel firstWordLabel, SentenceImpl sentence) {
-        for (var word : sentence.getWords()) {
-            if (word instanceof WordImpl sentenceWord) {
-                var wordBegin = sentenceWord.getBeginCharPosition();
-                int firstWordLabelBegin = firstWordLabel.beginPosition();
-                if (wordBegin == firstWordLabelBegin) {
-                    return sentenceWord.getPosition();
-                }
-            }
-        }
-        return -1;
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -126,28 +136,35 @@ public SemanticGraph dependencyParse() {
         return semanticGraph;
     }
 
-    @Serial
-    private void writeObject(ObjectOutputStream out) throws IOException {
-        getPhrases(); //Initialize before write
-        dependencyParse(); //Initialize before write
-        out.defaultWriteObject();
-        /* It is a lot cheaper to serialize the phrases (up to 70x less storage space and much
-        faster), if the coreSentence is ever made accessible, this should be uncommented
-        out.writeObject(coreSentence.coreMap());
-        ProtobufAnnotationSerializer serializer = new ProtobufAnnotationSerializer();
-        serializer.writeCoreDocument(coreSentence.document(), out);
-         */
+    int indexOfPhrase(Tree phraseTree) {
+        var allPhrases = getPhrases();
+        for (int i = 0; i < allPhrases.size(); i++) {
+            if (((PhraseImpl) allPhrases.get(i)).getTree() == phraseTree) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("The tree is no phrase of sentence " + sentenceNumber);
     }
 
     @Serial
-    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        in.defaultReadObject();
-        /* It is a lot cheaper to serialize the phrases (up to 70x less storage space and much
-        faster), if the coreSentence is ever made accessible, this should be uncommented
-        var coreMap = (CoreMap) in.readObject();
-        ProtobufAnnotationSerializer serializer = new ProtobufAnnotationSerializer();
-        var coreDocument = serializer.readCoreDocument(in).first;
-        coreSentence = new CoreSentence(coreDocument, coreMap);
-         */
+    private Object writeReplace() {
+        return new SerializedSentence(parent, sentenceNumber);
+    }
+
+    /**
+     * The serialized form of a sentence. The sentence is restored from its text, which serializes the annotations of all sentences. Restoring the sentence
+     * parses the document of the text.
+     */
+    private record SerializedSentence(TextImpl text, int sentenceNumber) implements Serializable {
+        @Serial
+        private Object readResolve() {
+            return text.getSentences().get(sentenceNumber);
+        }
+    }
+
+    /**
+     * The phrases of a sentence and, for every word of the sentence, the innermost phrase that contains it.
+     */
+    private record PhraseIndex(ImmutableList<Phrase> phrases, Phrase[] innermostPhrases) {
     }
 }
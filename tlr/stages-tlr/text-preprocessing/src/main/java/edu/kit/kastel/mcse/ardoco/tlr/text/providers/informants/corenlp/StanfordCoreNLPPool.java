@@ -0,0 +1,92 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+/**
+ * Process-wide pool of {@link StanfordCoreNLP} pipelines. Creating a pipeline loads the models of its annotators, which takes seconds and hundreds of MB, so
+ * every configuration is created lazily on its first request and then shared by all callers in the JVM. Two configurations are the same if they contain the
+ * same properties (including defaults) with the same values.
+ * <p>
+ * The pipelines of the pool are shared: callers must not change their properties, and a caller that is not sure whether the annotators of its configuration
+ * are thread-safe has to synchronize on the pipeline.
+ */
+@Deterministic
+public final class StanfordCoreNLPPool {
+
+    private static final Map<String, PooledPipeline> PIPELINES = new ConcurrentHashMap<>();
+
+    private StanfordCoreNLPPool() {
+        throw new IllegalStateException("Cannot be instantiated");
+    }
+
+    /**
+     * Returns the shared pipeline for the specified configuration, creating it if this configuration is requested for the first time. Later changes of the
+     * properties do not affect the pooled pipeline.
+     *
+     * @param properties the configuration of the pipeline
+     * @return the shared pipeline
+     * @throws IllegalArgumentException if the properties are null
+     */
+    public static StanfordCoreNLP getPipeline(Properties properties) {
+        if (properties == null) {
+            throw new IllegalArgumentException("Properties are null");
+        }
+        var configuration = copyOf(properties);
+        return PIPELINES.computeIfAbsent(createKey(configuration), key -> new PooledPipeline(configuration)).get();
+    }
+
+    /**
+     * Removes all pipelines from the pool, so that their models can be garbage collected once no caller uses them anymore.
+     */
+    public static void clear() {
+        PIPELINES.clear();
+    }
+
+    private static Properties copyOf(Properties properties) {
+        var copy = new Properties();
+        for (String name : properties.stringPropertyNames()) {
+            copy.setProperty(name, properties.getProperty(name));
+        }
+        return copy;
+    }
+
+    private static String createKey(Properties configuration) {
+        var key = new StringJoiner("\n");
+        for (String name : new TreeSet<>(configuration.stringPropertyNames())) {
+            key.add(name + "=" + configuration.getProperty(name));
+        }
+        return key.toString();
+    }
+
+    // the pipeline is created outside of the pool's map, so loading the models of one configuration does not block requests for other configurations
+    private static final class PooledPipeline {
+        private final Properties configuration;
+        private volatile StanfordCoreNLP pipeline;
+
+        private PooledPipeline(Properties configuration) {
+            this.configuration = configuration;
+        }
+
+        private StanfordCoreNLP get() {
+            StanfordCoreNLP result = pipeline;
+            if (result == null) {
+                synchronized (this) {
+                    result = pipeline;
+                    if (result == null) {
+                        result = new StanfordCoreNLP(configuration);
+                        pipeline = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -2,11 +2,11 @@
 package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp;
 
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serial;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
@@ -16,15 +16,24 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.CoreNLPProtos;
+import edu.stanford.nlp.pipeline.ProtobufAnnotationSerializer;
 
+/**
+ * A text annotated by CoreNLP. The words, sentences and phrases are created from the {@link CoreDocument} on first access.
+ * <p>
+ * A text is serialized as the CoreNLP protobuf representation of its document instead of the (much larger) object graph of its tokens, trees and semantic
+ * graphs. Words, sentences and phrases of the text that are serialized on their own only write their position in the text. A deserialized text only parses
+ * its document again when it is accessed for the first time. If the stream also contains words, sentences or phrases of the text, they are resolved to the
+ * objects of the text while they are read, so the document is already parsed during deserialization.
+ */
 public class TextImpl implements Text {
 
     @Serial
-    private static final long serialVersionUID = 8720058979625513977L;
+    private static final long serialVersionUID = -2937421006180434914L;
     private transient CoreDocument coreDocument;
-    private ImmutableList<Sentence> sentences = Lists.immutable.empty();
-    private ImmutableList<Word> words = Lists.immutable.empty();
-    private final SortedMap<Integer, Word> wordsIndex = new TreeMap<>();
+    private transient byte[] serializedDocument;
+    private transient volatile WordIndex wordIndex;
 
     public TextImpl(CoreDocument coreDocument) {
         this.coreDocument = coreDocument;
@@ -32,74 +41,133 @@ public TextImpl(CoreDocument coreDocument) {
 
     @Override
     public ImmutableList<Word> words() {
-        if (words.isEmpty()) {
-            iterateDocumentForWordsAndSentences();
-        }
-        return words;
+        return getWordIndex().words();
     }
 
     @Override
-    public synchronized Word getWord(int index) {
-        if (wordsIndex.isEmpty()) {
-            words();
-        }
-        return wordsIndex.get(index);
+    public Word getWord(int index) {
+        var allWords = words();
+        return index >= 0 && index < allWords.size() ? allWords.get(index) : null;
     }
 
     @Override
     public ImmutableList<Sentence> getSentences() {
-        if (sentences.isEmpty()) {
-            iterateDocumentForWordsAndSentences();
+        return getWordIndex().sentences();
+    }
+
+    /**
+     * Returns the words of the sentence with the given number.
+     *
+     * @param sentenceNumber the sentence number
+     * @return the words of the sentence
+     */
+    ImmutableList<Word> getWordsOfSentence(int sentenceNumber) {
+        return getWordIndex().wordsOfSentences().get(sentenceNumber);
+    }
+
+    /**
+     * Returns the index of the word that begins at the given character position.
+     *
+     * @param beginPosition the character position
+     * @return the index of the word, or -1 if no word begins at the position
+     */
+    int getIndexOfWordBeginningAt(int beginPosition) {
+        int index = Arrays.binarySearch(getWordIndex().beginPositions(), beginPosition);
+        return index >= 0 ? index : -1;
+    }
+
+    private WordIndex getWordIndex() {
+        WordIndex index = wordIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = wordIndex;
+                if (index == null) {
+                    index = iterateDocumentForWordsAndSentences();
+                    wordIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private synchronized CoreDocument getCoreDocument() {
+        if (coreDocument == null) {
+            try {
+                var annotation = new ProtobufAnnotationSerializer().fromProto(CoreNLPProtos.Document.parseFrom(serializedDocument));
+                coreDocument = new CoreDocument(annotation);
+                serializedDocument = null;
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read the serialized CoreNLP document", e);
+            }
         }
-        return sentences;
+        return coreDocument;
     }
 
-    private void iterateDocumentForWordsAndSentences() {
+    private WordIndex iterateDocumentForWordsAndSentences() {
         MutableList<Sentence> sentenceList = Lists.mutable.empty();
         MutableList<Word> wordList = Lists.mutable.empty();
+        MutableList<ImmutableList<Word>> wordsOfSentences = Lists.mutable.empty();
 
-        var coreSentences = coreDocument.sentences();
+        var coreSentences = getCoreDocument().sentences();
         int wordIndex = 0;
         for (int i = 0; i < coreSentences.size(); i++) {
             var coreSentence = coreSentences.get(i);
             var sentence = new SentenceImpl(coreSentence, i, this);
             sentenceList.add(sentence);
 
+            MutableList<Word> sentenceWords = Lists.mutable.empty();
             for (var token : coreSentence.tokens()) {
                 var word = new WordImpl(token, wordIndex, this);
                 wordList.add(word);
+                sentenceWords.add(word);
                 wordIndex++;
             }
+            wordsOfSentences.add(sentenceWords.toImmutable());
         }
 
-        sentences = sentenceList.toImmutable();
-        words = wordList.toImmutable();
-        int index = 0;
-        for (Word word : words) {
-            wordsIndex.put(index, word);
-            index++;
+        int[] beginPositions = new int[wordList.size()];
+        for (int i = 0; i < beginPositions.length; i++) {
+            beginPositions[i] = ((WordImpl) wordList.get(i)).getBeginCharPosition();
         }
+        return new WordIndex(sentenceList.toImmutable(), wordList.toImmutable(), wordsOfSentences.toImmutable(), beginPositions);
     }
 
     @Serial
     private void writeObject(ObjectOutputStream out) throws IOException {
-        words(); //Initialize words
-        getSentences(); //Initialize sentences
         out.defaultWriteObject();
-        /* It is a lot cheaper to serialize the phrases (up to 70x less storage space and much
-        faster), if the coreDocument is ever made accessible, this should be uncommented
-        ProtobufAnnotationSerializer serializer = new ProtobufAnnotationSerializer();
-        serializer.writeCoreDocument(coreDocument, out);
-         */
+        byte[] document = getSerializedDocument();
+        out.writeInt(document.length);
+        out.write(document);
+    }
+
+    // a text that was deserialized and not accessed since then still has the serialized document
+    private synchronized byte[] getSerializedDocument() {
+        if (serializedDocument != null) {
+            return serializedDocument;
+        }
+        return new ProtobufAnnotationSerializer().toProto(coreDocument.annotation()).toByteArray();
     }
 
+    // the length is not trusted: the document is read in chunks, so a corrupt length cannot allocate more memory than the stream contains
     @Serial
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        /* It is a lot cheaper to serialize the phrases (up to 70x less storage space and much
-        faster), if the coreDocument is ever made accessible, this should be uncommented
-        ProtobufAnnotationSerializer serializer = new ProtobufAnnotationSerializer();
-        coreDocument = serializer.readCoreDocument(in).first;
-         */
+        int length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Negative length of the serialized CoreNLP document: " + length);
+        }
+        byte[] document = in.readNBytes(length);
+        if (document.length != length) {
+            throw new InvalidObjectException("The serialized CoreNLP document is truncated");
+        }
+        serializedDocument = document;
+    }
+
+    /**
+     * The words and sentences of the text. The words of each sentence and the character positions at which the words begin (in ascending order) are
+     * precomputed, so navigating between words, sentences and phrases does not scan the text.
+     */
+    private record WordIndex(ImmutableList<Sentence> sentences, ImmutableList<Word> words, ImmutableList<ImmutableList<Word>> wordsOfSentences,
+                             int[] beginPositions) {
     }
 }
@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp;
 
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,7 +32,6 @@ class WordImpl implements Word {
     private Word nextWord = null;
 
     private final int sentenceNo;
-    private Phrase phrase;
     private final String text;
     private final POSTag posTag;
 
@@ -57,20 +57,8 @@ public Sentence getSentence() {
 
     @Override
     public Phrase getPhrase() {
-        if (this.phrase == null) {
-            this.phrase = loadPhrase();
-        }
-        return this.phrase;
-    }
-
-    private Phrase loadPhrase() {
-        var currentPhrase = getSentence().getPhrases().stream().filter(p -> p.getContainedWords().contains(this)).findFirst().orElseThrow();
-        var subPhrases = List.of(currentPhrase);
-        while (!subPhrases.isEmpty()) {
-            currentPhrase = subPhrases.getFirst();
-            subPhrases = currentPhrase.getSubphrases().stream().filter(p -> p.getContainedWords().contains(this)).toList();
-        }
-        return currentPhrase;
+        var sentence = (SentenceImpl) getSentence();
+        return sentence.getPhraseOfWord(index - sentence.getWords().getFirst().getPosition());
     }
 
     @Override
@@ -195,4 +183,20 @@ public int compareTo(Word o) {
     public String toString() {
         return token.toString();
     }
+
+    @Serial
+    private Object writeReplace() {
+        return new SerializedWord(parent, index);
+    }
+
+    /**
+     * The serialized form of a word. The word is restored from its text, which serializes the annotations of all words. Restoring the word parses the document
+     * of the text.
+     */
+    private record SerializedWord(TextImpl text, int index) implements Serializable {
+        @Serial
+        private Object readResolve() {
+            return text.getWord(index);
+        }
+    }
 }
@@ -25,6 +25,8 @@ public final class ConfigManager {
     private static final String PROPERTY_NLP_PROVIDER_SOURCE = "nlpProviderSource";
     private static final String PROPERTY_CORENLP_SERVICE = "corenlpService";
     private static final String PROPERTY_HEALTH_SERVICE = "healthService";
+    private static final String PROPERTY_LOCAL_ANNOTATION_THREADS = "localAnnotationThreads";
+    private static final String PROPERTY_TEXT_CACHE_DIRECTORY = "textCacheDirectory";
 
     private ConfigManager() {
         properties = new Properties();
@@ -36,6 +38,7 @@ private ConfigManager() {
             properties.setProperty(PROPERTY_NLP_PROVIDER_SOURCE, "local");
             properties.setProperty(PROPERTY_CORENLP_SERVICE, "/stanfordnlp");
             properties.setProperty(PROPERTY_HEALTH_SERVICE, "/stanfordnlp/health");
+            properties.setProperty(PROPERTY_LOCAL_ANNOTATION_THREADS, "1");
         }
         if (Environment.getEnv("MICROSERVICE_URL") != null) {
             properties.setProperty(PROPERTY_MICROSERVICE_URL, Environment.getEnv("MICROSERVICE_URL"));
@@ -43,6 +46,12 @@ private ConfigManager() {
         if (Environment.getEnv("NLP_PROVIDER_SOURCE") != null) {
             properties.setProperty(PROPERTY_NLP_PROVIDER_SOURCE, Environment.getEnv("NLP_PROVIDER_SOURCE"));
         }
+        if (Environment.getEnv("LOCAL_ANNOTATION_THREADS") != null) {
+            properties.setProperty(PROPERTY_LOCAL_ANNOTATION_THREADS, Environment.getEnv("LOCAL_ANNOTATION_THREADS"));
+        }
+        if (Environment.getEnv("TEXT_CACHE_DIRECTORY") != null) {
+            properties.setProperty(PROPERTY_TEXT_CACHE_DIRECTORY, Environment.getEnv("TEXT_CACHE_DIRECTORY"));
+        }
     }
 
     public String getMicroserviceUrl() {
@@ -61,4 +70,33 @@ public String getHealthService() {
         return properties.getProperty(PROPERTY_HEALTH_SERVICE);
     }
 
+    /**
+     * Returns the number of threads that annotate the sentences of a text concurrently when the text is processed locally. Missing or invalid values fall
+     * back to a single thread.
+     *
+     * @return the number of annotation threads, at least one
+     */
+    public int getLocalAnnotationThreads() {
+        String threads = properties.getProperty(PROPERTY_LOCAL_ANNOTATION_THREADS, "1");
+        try {
+            int numberOfThreads = Integer.parseInt(threads.trim());
+            if (numberOfThreads >= 1) {
+                return numberOfThreads;
+            }
+            logger.warn("Invalid number of local annotation threads: {}. Using a single thread.", threads);
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid number of local annotation threads: {}. Using a single thread.", threads, e);
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the directory of the persistent cache of annotated texts. An empty directory disables the cache.
+     *
+     * @return the cache directory, or an empty string if the cache is disabled
+     */
+    public String getTextCacheDirectory() {
+        return properties.getProperty(PROPERTY_TEXT_CACHE_DIRECTORY, "").trim();
+    }
+
 }
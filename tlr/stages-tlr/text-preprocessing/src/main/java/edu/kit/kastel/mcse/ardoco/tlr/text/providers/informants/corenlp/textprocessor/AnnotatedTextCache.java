@@ -0,0 +1,91 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.textprocessor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CacheFiles;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.DtoToObjectConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.JsonConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.ObjectToDtoConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+
+/**
+ * Persistent cache of annotated texts. Every entry is stored as a file in the text-provider-json format in the cache directory. The name of the file is the
+ * SHA-256 hash of the annotation configuration and the input text, so a changed text or configuration never hits an outdated entry. Entries are written
+ * atomically with {@link CacheFiles}, so concurrent runs that share the directory never read a partially written entry. Unreadable entries are treated as
+ * misses.
+ */
+public final class AnnotatedTextCache {
+
+    // increment if the format of the entries changes
+    private static final String FORMAT_VERSION = "1";
+    private static final String FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LoggerFactory.getLogger(AnnotatedTextCache.class);
+
+    private final Path directory;
+
+    /**
+     * Creates a cache that stores its entries in the given directory. The directory is created when the first entry is stored.
+     *
+     * @param directory the cache directory
+     */
+    public AnnotatedTextCache(Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    /**
+     * Returns the cached annotation of the input text that was created with the given configuration.
+     *
+     * @param inputText     the input text
+     * @param configuration the annotation configuration
+     * @return the cached annotated text, or an empty optional if there is no readable entry
+     */
+    public Optional<Text> load(String inputText, String configuration) {
+        Path entry = this.getEntry(inputText, configuration);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try {
+            String json = Files.readString(entry, StandardCharsets.UTF_8);
+            var text = new DtoToObjectConverter().convertText(JsonConverter.fromJsonString(json));
+            logger.info("Loaded annotated text from cache entry {}", entry);
+            return Optional.of(text);
+        } catch (IOException | InvalidJsonException | NotConvertableException e) {
+            logger.warn("Could not load cache entry {}. Ignoring it.", entry, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the annotation of the input text that was created with the given configuration. Failures are logged and do not affect the caller.
+     *
+     * @param inputText     the input text
+     * @param configuration the annotation configuration
+     * @param annotatedText the annotated text
+     */
+    public void store(String inputText, String configuration, Text annotatedText) {
+        Path entry = this.getEntry(inputText, configuration);
+        try {
+            String json = JsonConverter.toJsonString(new ObjectToDtoConverter().convertTextToDTO(annotatedText));
+            CacheFiles.writeAtomically(entry, file -> Files.writeString(file, json, StandardCharsets.UTF_8));
+            logger.info("Stored annotated text in cache entry {}", entry);
+        } catch (IOException | InvalidJsonException | NotConvertableException e) {
+            logger.warn("Could not store cache entry {}.", entry, e);
+        }
+    }
+
+    private Path getEntry(String inputText, String configuration) {
+        return this.directory.resolve(CacheFiles.hash(FORMAT_VERSION, configuration, inputText) + FILE_EXTENSION);
+    }
+}
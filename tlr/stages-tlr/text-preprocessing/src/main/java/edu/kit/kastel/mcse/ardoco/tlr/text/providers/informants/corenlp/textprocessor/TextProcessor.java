@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.textprocessor;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,11 +13,15 @@
 import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.config.ConfigManager;
 
 /**
- * This text processor processes texts using CoreNLP.
+ * This text processor processes texts using CoreNLP. If a text cache directory is configured, annotated texts are stored in an {@link AnnotatedTextCache}, and
+ * a text that was already annotated in an earlier run is loaded from the cache instead of being processed again. The cache key contains the NLP provider
+ * source that annotated the text together with its configuration, i.e., the microservice endpoint or the local CoreNLP version and annotators.
  */
 public class TextProcessor {
 
     private static final int MAX_FAILED_SERVICE_REQUESTS = 2;
+    private static final String MICROSERVICE = "microservice";
+    private static final String LOCAL = "local";
     Logger logger = LoggerFactory.getLogger(TextProcessor.class);
 
     /**
@@ -26,25 +31,67 @@ public class TextProcessor {
      * @return the annotated text
      */
     public Text processText(String inputText) {
-        boolean microserviceAvailable = MicroserviceChecker.isMicroserviceAvailable();
-        if (ConfigManager.INSTANCE.getNlpProviderSource().equals("microservice") && microserviceAvailable) {
-            int numberOfTry = 0;
-            while (numberOfTry < MAX_FAILED_SERVICE_REQUESTS) {
-                try {
-                    logger.info("Processing text with CoreNLP microservice.");
-                    return processService(inputText);
-                } catch (IOException e) {
-                    numberOfTry++;
-                    logger.warn("Could not process text with CoreNLP microservice. Trying again. ", e);
-                } catch (NotConvertableException | InvalidJsonException e) {
-                    logger.warn("Could not process text with CoreNLP microservice. Text not convertable. ", e);
-                    return processLocally(inputText);
-                }
+        AnnotatedTextCache cache = createCache();
+        boolean useMicroservice = ConfigManager.INSTANCE.getNlpProviderSource().equals(MICROSERVICE) && MicroserviceChecker.isMicroserviceAvailable();
+        if (cache != null) {
+            var cachedText = cache.load(inputText, getConfiguration(useMicroservice));
+            if (cachedText.isPresent()) {
+                return cachedText.get();
+            }
+        }
+        if (useMicroservice) {
+            Text annotatedText = annotateWithService(inputText);
+            if (annotatedText != null) {
+                store(cache, inputText, true, annotatedText);
+                return annotatedText;
             }
-            logger.warn("Could not process text with CoreNLP microservice. Processing locally instead.");
         }
         logger.info("Processing text locally.");
-        return processLocally(inputText);
+        Text annotatedText = processLocally(inputText);
+        store(cache, inputText, false, annotatedText);
+        return annotatedText;
+    }
+
+    private static AnnotatedTextCache createCache() {
+        String cacheDirectory = ConfigManager.INSTANCE.getTextCacheDirectory();
+        return cacheDirectory.isEmpty() ? null : new AnnotatedTextCache(Path.of(cacheDirectory));
+    }
+
+    private static void store(AnnotatedTextCache cache, String inputText, boolean annotatedWithService, Text annotatedText) {
+        if (cache != null) {
+            cache.store(inputText, getConfiguration(annotatedWithService), annotatedText);
+        }
+    }
+
+    private static String getConfiguration(boolean useMicroservice) {
+        if (useMicroservice) {
+            return "nlpProviderSource=" + MICROSERVICE + ";" + TextProcessorService.getConfiguration();
+        }
+        return "nlpProviderSource=" + LOCAL + ";" + TextProcessorLocal.getConfiguration();
+    }
+
+    /**
+     * Annotates the text with the microservice.
+     *
+     * @param inputText the input text
+     * @return the annotated text, or null if the microservice could not annotate the text
+     */
+    private Text annotateWithService(String inputText) {
+        int numberOfTry = 0;
+        while (numberOfTry < MAX_FAILED_SERVICE_REQUESTS) {
+            try {
+                logger.info("Processing text with CoreNLP microservice.");
+                return processService(inputText);
+            } catch (IOException e) {
+                numberOfTry++;
+                logger.warn("Could not process text with CoreNLP microservice. Trying again. ", e);
+            } catch (NotConvertableException | InvalidJsonException e) {
+                logger.warn("Could not process text with CoreNLP microservice. Text not convertable. ", e);
+                return null;
+            }
+        }
+        logger.warn("Could not process text with CoreNLP microservice. Processing locally instead.");
+        return null;
     }
 
     private Text processLocally(String inputText) {
@@ -1,19 +1,54 @@
-/* Licensed under MIT 2023. */
+/* Licensed under MIT 2023-2025. */
 package edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.textprocessor;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.TreeSet;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.StanfordCoreNLPPool;
 import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.TextImpl;
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.config.ConfigManager;
 import edu.stanford.nlp.pipeline.CoreDocument;
 import edu.stanford.nlp.pipeline.StanfordCoreNLP;
 
 /**
- * This text processor processes texts locally using CoreNLP.
+ * This text processor processes texts locally using CoreNLP. The pipeline is taken from the {@link StanfordCoreNLPPool}, so its models are only loaded for the
+ * first text that is processed in the JVM.
+ * <p>
+ * Tokenization and sentence splitting always run on a single thread. With more than one annotation thread, the sentence-level annotators (POS tagging,
+ * constituency and dependency parsing) annotate the sentences concurrently. As every sentence is annotated on its own, the resulting text has the same words,
+ * word indices and sentence numbers as with a single thread.
  */
 public class TextProcessorLocal {
     private static final String ANNOTATORS = "tokenize,ssplit,pos,parse,depparse,lemma"; // further: ",ner,coref"
     private static final String DEPENDENCIES_ANNOTATION = "EnhancedPlusPlusDependenciesAnnotation";
+    private static final String[] SENTENCE_ANNOTATORS = { "pos", "parse", "depparse" };
+    private static final String CORENLP_POM_PROPERTIES = "/META-INF/maven/edu.stanford.nlp/stanford-corenlp/pom.properties";
+
+    private final int annotationThreads;
+
+    /**
+     * Creates a text processor that uses the number of annotation threads of the {@link ConfigManager}.
+     */
+    public TextProcessorLocal() {
+        this(ConfigManager.INSTANCE.getLocalAnnotationThreads());
+    }
+
+    /**
+     * Creates a text processor that annotates up to the given number of sentences concurrently.
+     *
+     * @param annotationThreads the number of annotation threads, must be positive
+     * @throws IllegalArgumentException if the number of annotation threads is not positive
+     */
+    public TextProcessorLocal(int annotationThreads) {
+        if (annotationThreads < 1) {
+            throw new IllegalArgumentException("The number of annotation threads must be positive");
+        }
+        this.annotationThreads = annotationThreads;
+    }
 
     /**
      * processes and annotates a given text locally using CoreNLP.
@@ -22,14 +57,47 @@ public class TextProcessorLocal {
      * @return the annotated text
      */
     public Text processText(String inputText) {
-        Properties props = getStanfordProperties(new Properties());
-        StanfordCoreNLP pipeline = new StanfordCoreNLP(props);
+        Properties props = getStanfordProperties(new Properties(), this.annotationThreads);
+        StanfordCoreNLP pipeline = StanfordCoreNLPPool.getPipeline(props);
         CoreDocument document = new CoreDocument(inputText);
         pipeline.annotate(document);
         return new TextImpl(document);
     }
 
-    private static Properties getStanfordProperties(Properties properties) {
+    /**
+     * Returns a description of the annotator configuration and the CoreNLP version. Texts that were annotated with the same configuration have the same
+     * annotations, independent of the number of annotation threads.
+     *
+     * @return the description of the configuration
+     */
+    static String getConfiguration() {
+        var properties = getStanfordProperties(new Properties(), 1);
+        var configuration = new StringJoiner(";");
+        configuration.add("corenlp.version=" + getCoreNlpVersion());
+        for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+            configuration.add(name + "=" + properties.getProperty(name));
+        }
+        return configuration.toString();
+    }
+
+    private static String getCoreNlpVersion() {
+        String version = StanfordCoreNLP.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        try (InputStream pomProperties = StanfordCoreNLP.class.getResourceAsStream(CORENLP_POM_PROPERTIES)) {
+            if (pomProperties != null) {
+                var properties = new Properties();
+                properties.load(pomProperties);
+                return properties.getProperty("version", "unknown");
+            }
+        } catch (IOException e) {
+            // the version is only part of the description, so an unknown version is sufficient
+        }
+        return "unknown";
+    }
+
+    private static Properties getStanfordProperties(Properties properties, int annotationThreads) {
         if (properties == null) {
             throw new IllegalArgumentException("Properties are null");
         }
@@ -40,6 +108,12 @@ private static Properties getStanfordProperties(Properties properties) {
         allStanfordProperties.put("depparse", DEPENDENCIES_ANNOTATION);
         allStanfordProperties.put("coref.algorithm", "fastneural");
 
+        if (annotationThreads > 1) {
+            for (String annotator : SENTENCE_ANNOTATORS) {
+                allStanfordProperties.setProperty(annotator + ".nthreads", Integer.toString(annotationThreads));
+            }
+        }
+
         return allStanfordProperties;
     }
 }
@@ -31,6 +31,16 @@ public Text processText(String inputText) throws IOException, InvalidJsonExcepti
         return new DtoToObjectConverter().convertText(textDto);
     }
 
+    /**
+     * Returns a description of the microservice endpoint that annotates the texts.
+     *
+     * @return the description of the configuration
+     */
+    static String getConfiguration() {
+        ConfigManager configManager = ConfigManager.INSTANCE;
+        return "endpoint=" + configManager.getMicroserviceUrl() + configManager.getCorenlpService();
+    }
+
     private String sendCoreNlpRequest(String inputText) throws IOException {
         String encodedText = encodeText(inputText);
         ConfigManager configManager = ConfigManager.INSTANCE;
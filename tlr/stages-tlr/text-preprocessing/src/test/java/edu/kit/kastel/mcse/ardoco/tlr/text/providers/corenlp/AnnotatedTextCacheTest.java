@@ -0,0 +1,58 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.text.providers.corenlp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.textprocessor.AnnotatedTextCache;
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.textprocessor.TextProcessorLocal;
+
+class AnnotatedTextCacheTest {
+
+    private static final String INPUT_TEXT = "The WebUI sends requests to the Persistence component. The Persistence stores the products in the database.";
+    private static final String CONFIGURATION = "annotators=tokenize,ssplit,pos,parse,depparse,lemma";
+
+    @TempDir
+    private Path cacheDirectory;
+
+    @Test
+    void loadsStoredAnnotation() {
+        var cache = new AnnotatedTextCache(this.cacheDirectory);
+        assertTrue(cache.load(INPUT_TEXT, CONFIGURATION).isEmpty());
+
+        var annotatedText = new TextProcessorLocal(1).processText(INPUT_TEXT);
+        cache.store(INPUT_TEXT, CONFIGURATION, annotatedText);
+
+        var cachedText = new AnnotatedTextCache(this.cacheDirectory).load(INPUT_TEXT, CONFIGURATION);
+        assertTrue(cachedText.isPresent());
+        assertEquals(TextProcessorLocalTest.describe(annotatedText), TextProcessorLocalTest.describe(cachedText.orElseThrow()));
+    }
+
+    @Test
+    void missesForOtherTextsAndConfigurations() {
+        var cache = new AnnotatedTextCache(this.cacheDirectory);
+        cache.store(INPUT_TEXT, CONFIGURATION, new TextProcessorLocal(1).processText(INPUT_TEXT));
+
+        assertTrue(cache.load(INPUT_TEXT + " ", CONFIGURATION).isEmpty());
+        assertTrue(cache.load(INPUT_TEXT, CONFIGURATION + ",ner").isEmpty());
+    }
+
+    @Test
+    void ignoresCorruptEntries() throws IOException {
+        var cache = new AnnotatedTextCache(this.cacheDirectory);
+        cache.store(INPUT_TEXT, CONFIGURATION, new TextProcessorLocal(1).processText(INPUT_TEXT));
+        try (var entries = Files.list(this.cacheDirectory)) {
+            for (Path entry : entries.toList()) {
+                Files.writeString(entry, "{");
+            }
+        }
+        assertTrue(cache.load(INPUT_TEXT, CONFIGURATION).isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.text.providers.corenlp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.textprocessor.TextProcessorLocal;
+
+class CoreNLPTextSerializationTest {
+
+    private static final String INPUT_TEXT = "The WebUI sends requests to the Persistence component. The Persistence stores the products in the database.";
+
+    @Test
+    void serializedTextHasSameAnnotations() throws IOException, ClassNotFoundException {
+        var text = new TextProcessorLocal(1).processText(INPUT_TEXT);
+        var copy = (Text) deserialize(serialize(text));
+        assertEquals(TextProcessorLocalTest.describe(text), TextProcessorLocalTest.describe(copy));
+    }
+
+    @Test
+    void serializedPartsResolveToPartsOfTheText() throws IOException, ClassNotFoundException {
+        var text = new TextProcessorLocal(1).processText(INPUT_TEXT);
+        var word = text.getWord(4);
+        var sentence = text.getSentences().get(1);
+        var phrase = sentence.getPhrases().getFirst().getSubphrases().getLast();
+
+        var copy = (List<?>) deserialize(serialize(List.of(word, sentence, phrase, text)));
+        var copiedText = (Text) copy.get(3);
+        assertSame(copiedText.getWord(4), copy.get(0));
+        assertSame(copiedText.getSentences().get(1), copy.get(1));
+        assertEquals(phrase, copy.get(2));
+        assertEquals(word.getText(), ((Word) copy.get(0)).getText());
+        assertEquals(sentence.getText(), ((Sentence) copy.get(1)).getText());
+        assertEquals(phrase.getContainedWords().size(), ((Phrase) copy.get(2)).getContainedWords().size());
+    }
+
+    @Test
+    void truncatedTextIsRejected() throws IOException {
+        var serializedText = serialize(new TextProcessorLocal(1).processText(INPUT_TEXT));
+        var truncatedText = Arrays.copyOf(serializedText, serializedText.length / 2);
+        assertThrows(ObjectStreamException.class, () -> deserialize(truncatedText));
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
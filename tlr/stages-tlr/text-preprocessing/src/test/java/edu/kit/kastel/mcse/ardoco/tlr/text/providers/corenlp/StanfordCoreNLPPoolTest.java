@@ -0,0 +1,57 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.text.providers.corenlp;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.StanfordCoreNLPPool;
+
+class StanfordCoreNLPPoolTest {
+
+    @AfterEach
+    void clearPool() {
+        StanfordCoreNLPPool.clear();
+    }
+
+    @Test
+    void equalConfigurationsShareThePipeline() {
+        var first = StanfordCoreNLPPool.getPipeline(properties("tokenize,ssplit"));
+        var defaults = new Properties();
+        defaults.setProperty("annotators", "tokenize,ssplit");
+        var second = StanfordCoreNLPPool.getPipeline(new Properties(defaults));
+        assertSame(first, second);
+    }
+
+    @Test
+    void differentConfigurationsDoNotShareThePipeline() {
+        var first = StanfordCoreNLPPool.getPipeline(properties("tokenize"));
+        var second = StanfordCoreNLPPool.getPipeline(properties("tokenize,ssplit"));
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void laterChangesOfThePropertiesDoNotAffectThePool() {
+        var properties = properties("tokenize");
+        var first = StanfordCoreNLPPool.getPipeline(properties);
+        properties.setProperty("annotators", "tokenize,ssplit");
+        assertSame(first, StanfordCoreNLPPool.getPipeline(properties("tokenize")));
+        assertNotSame(first, StanfordCoreNLPPool.getPipeline(properties));
+    }
+
+    @Test
+    void nullPropertiesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> StanfordCoreNLPPool.getPipeline(null));
+    }
+
+    private static Properties properties(String annotators) {
+        var properties = new Properties();
+        properties.setProperty("annotators", annotators);
+        return properties;
+    }
+}
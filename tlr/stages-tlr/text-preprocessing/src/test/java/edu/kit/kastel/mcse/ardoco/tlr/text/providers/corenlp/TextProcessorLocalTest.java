@@ -0,0 +1,62 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.tlr.text.providers.corenlp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
+import edu.kit.kastel.mcse.ardoco.tlr.text.providers.informants.corenlp.textprocessor.TextProcessorLocal;
+
+class TextProcessorLocalTest {
+
+    private static final String INPUT_TEXT = "src/test/resources/teastore.txt";
+
+    @Test
+    void concurrentAnnotationEqualsSequentialAnnotation() {
+        String inputText = CommonUtilities.readInputText(new File(INPUT_TEXT));
+        var sequential = new TextProcessorLocal(1).processText(inputText);
+        var concurrent = new TextProcessorLocal(4).processText(inputText);
+        assertEquals(describe(sequential), describe(concurrent));
+    }
+
+    @Test
+    void nonPositiveNumberOfThreadsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TextProcessorLocal(0));
+    }
+
+    static List<String> describe(Text text) {
+        List<String> description = new ArrayList<>();
+        for (var sentence : text.getSentences()) {
+            description.add(sentence.getSentenceNumber() + " " + sentence.getText());
+            for (var phrase : sentence.getPhrases()) {
+                description.add(phrase.getPhraseType() + " " + phrase.getText());
+            }
+        }
+        for (var word : text.words()) {
+            var wordDescription = new StringBuilder().append(word.getPosition())
+                    .append(' ')
+                    .append(word.getSentenceNumber())
+                    .append(' ')
+                    .append(word.getText())
+                    .append(' ')
+                    .append(word.getLemma())
+                    .append(' ')
+                    .append(word.getPosTag());
+            for (var dependencyTag : DependencyTag.values()) {
+                for (var dependent : word.getOutgoingDependencyWordsWithType(dependencyTag)) {
+                    wordDescription.append(' ').append(dependencyTag).append(':').append(dependent.getPosition());
+                }
+            }
+            description.add(wordDescription.toString());
+        }
+        return description;
+    }
+}